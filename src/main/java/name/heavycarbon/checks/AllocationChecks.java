@@ -0,0 +1,114 @@
+package name.heavycarbon.checks;
+
+import java.lang.management.ManagementFactory;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Checks on the number of bytes allocated on the heap by the current thread
+ * during a section of code, for code that must stay (nearly) allocation-free.
+ * Built on com.sun.management.ThreadMXBean.getCurrentThreadAllocatedBytes().
+ *
+ * Take a mark on entry, check on exit:
+ *
+ *    long mark = AllocationChecks.mark();
+ *    ... garbage-sensitive code ...
+ *    AllocationChecks.checkAllocatedAtMost(mark, 0, "decode loop");
+ *
+ * Neither call allocates. If the JVM does not support per-thread allocation
+ * accounting (or it has been switched off, or the current thread is a
+ * virtual thread, for which the JDK does not account), mark() returns
+ * NOT_SUPPORTED and the check passes.
+ *
+ * For permanent use in production, see "SampledAllocationCheck", which only
+ * measures one in N executions and can report instead of throwing.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+public class AllocationChecks {
+
+    /**
+     * Returned by mark() if allocation accounting is not available.
+     */
+
+    public static final long NOT_SUPPORTED = -1;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = findThreadMXBean();
+
+    private static com.sun.management.ThreadMXBean findThreadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Is per-thread allocation accounting available and enabled?
+     */
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Bytes allocated by the current thread since it started, or NOT_SUPPORTED.
+     */
+
+    public static long mark() {
+        if (THREAD_MX_BEAN == null) {
+            return NOT_SUPPORTED;
+        }
+        long res = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        return (res < 0) ? NOT_SUPPORTED : res;
+    }
+
+    /**
+     * Bytes allocated by the current thread since "mark" was taken, or
+     * NOT_SUPPORTED.
+     */
+
+    public static long allocatedSince(long mark) {
+        if (mark == NOT_SUPPORTED) {
+            return NOT_SUPPORTED;
+        }
+        long now = mark();
+        return (now == NOT_SUPPORTED) ? NOT_SUPPORTED : now - mark;
+    }
+
+    /**
+     * Check that the current thread allocated at most "maxBytes" since "mark"
+     * was taken. The number of allocated bytes is returned (NOT_SUPPORTED if
+     * unknown, in which case the check passes).
+     */
+
+    public static long checkAllocatedAtMost(long mark, long maxBytes) {
+        return checkAllocatedAtMost(mark, maxBytes, null);
+    }
+
+    @SuppressWarnings("boxing")
+    public static long checkAllocatedAtMost(long mark, long maxBytes, String name) {
+        long allocated = allocatedSince(mark);
+        if (allocated > maxBytes) {
+            if (name == null) {
+                BasicChecks.checkFailed("The unnamed section allocated {} bytes, more than the budget of {} bytes", allocated, maxBytes);
+            } else {
+                BasicChecks.checkFailed("The section '{}' allocated {} bytes, more than the budget of {} bytes", name, allocated, maxBytes);
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Run "runnable" and check that it allocated at most "maxBytes".
+     * Convenient in unit tests.
+     */
+
+    public static long checkAllocatedAtMost(long maxBytes, String name, Runnable runnable) {
+        BasicChecks.checkNotNull(runnable, "runnable");
+        long mark = mark();
+        runnable.run();
+        return checkAllocatedAtMost(mark, maxBytes, name);
+    }
+}
@@ -0,0 +1,189 @@
+package name.heavycarbon.checks;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * A set of allowed types for instanceof checks against more than one class.
+ * Whether a concrete class is an instance of any of them is worked out once,
+ * with Class.isAssignableFrom(), and then cached in a ClassValue, so that a
+ * check is a single ClassValue lookup however many allowed types and however
+ * many concrete classes flow through the call site (where isAssignableFrom()
+ * on interfaces and a megamorphic receiver class are slow):
+ *
+ *    private static final AllowedTypes PAYLOADS = AllowedTypes.of(Text.class, Binary.class, Ping.class);
+ *
+ *    PAYLOADS.check(payload, "payload");
+ *
+ * BasicChecks.checkNotNullAndInstanceOfAny() takes the classes as varargs and
+ * looks up the AllowedTypes for them in a cache keyed by the classes (in
+ * order); keeping the AllowedTypes in a static final field saves that lookup.
+ *
+ * The ClassValue keeps one Boolean per concrete class seen; the allowed
+ * classes are held strongly. The cache is never cleared, so it only takes
+ * sets of classes whose class loaders live as long as this class does (the
+ * bootstrap, platform and system class loaders and the loader of this
+ * class); for other classes, e.g. those of a plugin or web application that
+ * may be unloaded, a new AllowedTypes is built on every call, and callers
+ * should rather keep their own AllowedTypes.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - The cache does not keep classes of other class loaders
+ ******************************************************************************/
+
+public final class AllowedTypes {
+
+    /**
+     * At most this many sets are cached for checkNotNullAndInstanceOfAny();
+     * further ones are built afresh on every call.
+     */
+
+    static final int MAX_CACHED = 1024;
+
+    private static final ConcurrentHashMap<Key, AllowedTypes> cache = new ConcurrentHashMap<>();
+
+    private final Class<?>[] classes;
+
+    private final ClassValue<Boolean> accepted = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> clazz) {
+            for (Class<?> allowed : classes) {
+                if (allowed.isAssignableFrom(clazz)) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    private AllowedTypes(Class<?>[] classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * The types "classes"; at least one, none null.
+     */
+
+    public static AllowedTypes of(Class<?>... classes) {
+        return new AllowedTypes(checkClasses(classes).clone());
+    }
+
+    /**
+     * The (cached) AllowedTypes for "classes", for
+     * BasicChecks.checkNotNullAndInstanceOfAny(). Looking up does not copy
+     * "classes".
+     */
+
+    static AllowedTypes cachedFor(Class<?>[] classes) {
+        AllowedTypes res = cache.get(new Key(classes));
+        if (res == null) {
+            res = of(classes);
+            if (cache.size() < MAX_CACHED && isCacheable(res.classes)) {
+                AllowedTypes previous = cache.putIfAbsent(new Key(res.classes), res);
+                if (previous != null) {
+                    res = previous;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Whether all "classes" come from class loaders that are not unloaded
+     * before this class is, so that the cache does not keep them from being
+     * unloaded.
+     */
+
+    private static boolean isCacheable(Class<?>[] classes) {
+        ClassLoader own = AllowedTypes.class.getClassLoader();
+        for (Class<?> clazz : classes) {
+            ClassLoader loader = clazz.getClassLoader();
+            if (loader != null && loader != own && loader != ClassLoader.getSystemClassLoader()
+                    && loader != ClassLoader.getPlatformClassLoader()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("boxing")
+    private static Class<?>[] checkClasses(Class<?>[] classes) {
+        BasicChecks.checkNotNull(classes, "classes");
+        BasicChecks.checkTrueOrThrow(classes.length > 0, "No classes given");
+        for (int i = 0; i < classes.length; i++) {
+            BasicChecks.checkTrueOrThrow(classes[i] != null, "The Class Object at index {} is (null)", i);
+        }
+        return classes;
+    }
+
+    /**
+     * Whether an instance of "clazz" is an instance of any of the types.
+     */
+
+    public boolean accepts(Class<?> clazz) {
+        return accepted.get(clazz).booleanValue();
+    }
+
+    /**
+     * Check that "x" is not null and an instance of any of the types. The
+     * passed Object is returned so one can call the check "inline".
+     */
+
+    public <T> T check(T x, String name) {
+        BasicChecks.checkNotNull(x, name);
+        if (!accepted.get(x.getClass()).booleanValue()) {
+            failOn(x, name);
+        }
+        return x;
+    }
+
+    public <T> T check(T x) {
+        return check(x, null);
+    }
+
+    private void failOn(Object x, String name) {
+        StringBuilder buf = new StringBuilder();
+        buf.append((name == null) ? "The unnamed Object" : "The Object '" + name + "'");
+        buf.append(" is not of any of the classes [");
+        for (int i = 0; i < classes.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append('\'').append(classes[i].getName()).append('\'');
+        }
+        buf.append("] but of unassignable class '").append(x.getClass().getName()).append('\'');
+        BasicChecks.checkFailed(buf.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "AllowedTypes" + Arrays.toString(classes);
+    }
+
+    /**
+     * The classes of a set, in order, as a key of the cache.
+     */
+
+    private static final class Key {
+
+        private final Class<?>[] classes;
+        private final int hash;
+
+        Key(Class<?>[] classes) {
+            this.classes = classes;
+            this.hash = Arrays.hashCode(classes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && Arrays.equals(key.classes, classes);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package name.heavycarbon.checks;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.Iterator;
+import java.util.Map;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Bounded rendering of the arguments of a failure message on behalf of
+ * "Formatter", according to a "RenderPolicy".
+ *
+ * Collections, Maps and arrays are never rendered through their toString().
+ * A Collection or Map of at most "maxElements" elements that fits into the
+ * character budget is written out as AbstractCollection.toString() and
+ * AbstractMap.toString() would, e.g. "[a, b]" or "{k=v}". A larger one, or
+ * one that does not fit, is summarized: its class, its size and the first
+ * few elements are written out, e.g. "java.util.ArrayList(size=100)[a, b,
+ * ...]", and writing stops as soon as the character budget is exhausted.
+ * Arrays are always summarized. CharSequences are cut, too: only their
+ * leading part is copied. Other objects are rendered with toString(), which
+ * cannot be interrupted, and then cut.
+ *
+ * An exception thrown by toString() is rendered instead of being propagated,
+ * so that this can also be used on the error path of the Formatter.
+ *
+ * 2026.10.19 - Created to bound the size of failure messages
+ * 2026.10.19 - Small Collections and Maps are rendered as by toString()
+ ******************************************************************************/
+
+class ArgRenderer {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Containers nested deeper than this are rendered by type and size only.
+     * This also stops infinite recursion on self-containing containers.
+     */
+
+    private static final int MAX_DEPTH = 2;
+
+    private final RenderPolicy policy;
+    private final StringBuilder buf;
+    private final int limit;
+
+    private ArgRenderer(RenderPolicy policy, StringBuilder buf, int budget) {
+        this.policy = policy;
+        this.buf = buf;
+        this.limit = buf.length() + budget;
+    }
+
+    /**
+     * Decide whether "Formatter" should replace "arg" by its bounded rendering.
+     * Numbers, Characters, Booleans, dates and Formattables are left alone so
+     * that the conversions '%d', '%x', '%c', '%t' etc. keep working on them.
+     * Strings short enough are left alone, too.
+     */
+
+    static boolean needsRendering(Object arg, RenderPolicy policy) {
+        return !(arg == null
+                || arg instanceof Number
+                || arg instanceof Character
+                || arg instanceof Boolean
+                || arg instanceof Date
+                || arg instanceof Calendar
+                || arg instanceof TemporalAccessor
+                || arg instanceof Formattable
+                || (arg instanceof String s && s.length() <= policy.getMaxCharsPerArg()));
+    }
+
+    /**
+     * Render "arg" to a String of at most "maxCharsPerArg" characters (plus the
+     * truncation marker).
+     */
+
+    static String render(Object arg, RenderPolicy policy) {
+        StringBuilder buf = new StringBuilder();
+        appendTo(buf, arg, policy);
+        return buf.toString();
+    }
+
+    /**
+     * Append the rendering of "arg" to "buf", using at most "maxCharsPerArg"
+     * characters (plus the truncation marker).
+     */
+
+    static void appendTo(StringBuilder buf, Object arg, RenderPolicy policy) {
+        ArgRenderer renderer = new ArgRenderer(policy, buf, policy.getMaxCharsPerArg());
+        if (!renderer.appendObject(arg, 0)) {
+            buf.setLength(Math.min(buf.length(), renderer.limit));
+            buf.append(RenderPolicy.TRUNCATION_MARKER);
+        }
+    }
+
+    /**
+     * Cut "buf" so that it holds at most "maxCharsPerMessage" characters (plus
+     * the truncation marker).
+     */
+
+    static void truncateMessage(StringBuilder buf, RenderPolicy policy) {
+        if (buf.length() > policy.getMaxCharsPerMessage()) {
+            buf.setLength(policy.getMaxCharsPerMessage());
+            buf.append(RenderPolicy.TRUNCATION_MARKER);
+        }
+    }
+
+    // ---
+    // All the "append" methods below return false as soon as the budget has
+    // been exhausted, which makes the callers stop at once.
+    // ---
+
+    private boolean full() {
+        return buf.length() >= limit;
+    }
+
+    private boolean append(CharSequence cs) {
+        int room = limit - buf.length();
+        if (cs.length() <= room) {
+            buf.append(cs);
+            return true;
+        } else {
+            buf.append(cs, 0, Math.max(room, 0));
+            return false;
+        }
+    }
+
+    private boolean appendObject(Object x, int depth) {
+        if (x == null) {
+            return append("null");
+        } else if (x instanceof CharSequence cs) {
+            return append(cs);
+        } else if (x instanceof Collection<?> coll) {
+            return appendCollection(coll, depth);
+        } else if (x instanceof Map<?, ?> map) {
+            return appendMap(map, depth);
+        } else if (x instanceof byte[] bytes) {
+            return appendBytes(bytes);
+        } else if (x.getClass().isArray()) {
+            return appendArray(x, depth);
+        } else {
+            return appendToString(x);
+        }
+    }
+
+    private boolean appendToString(Object x) {
+        String str;
+        try {
+            str = x.toString();
+        } catch (Exception exe) {
+            str = "(toString() of " + x.getClass().getName() + " threw " + exe.getClass().getName() + ")";
+        }
+        return append(String.valueOf(str));
+    }
+
+    /**
+     * Render "coll" as by toString() if it is small enough and fits, else
+     * summarize it, starting over from where it started.
+     */
+
+    private boolean appendCollection(Collection<?> coll, int depth) {
+        int mark = buf.length();
+        if (depth < MAX_DEPTH && coll.size() <= policy.getMaxElements()) {
+            if (appendElements(coll, depth)) {
+                return true;
+            }
+            buf.setLength(mark);
+        }
+        if (!append(coll.getClass().getName()) || !append("(size=") || !append(Integer.toString(coll.size())) || !append(")")) {
+            return false;
+        }
+        if (depth >= MAX_DEPTH) {
+            return true;
+        }
+        return appendElements(coll, depth);
+    }
+
+    private boolean appendElements(Collection<?> coll, int depth) {
+        if (!append("[")) {
+            return false;
+        }
+        Iterator<?> iter = coll.iterator();
+        int count = 0;
+        while (iter.hasNext()) {
+            if (count > 0 && !append(", ")) {
+                return false;
+            }
+            if (count >= policy.getMaxElements()) {
+                return append(RenderPolicy.TRUNCATION_MARKER) && append("]");
+            }
+            Object elem = iter.next();
+            if (!appendObject(elem == coll ? "(this Collection)" : elem, depth + 1)) {
+                return false;
+            }
+            count++;
+        }
+        return append("]");
+    }
+
+    /**
+     * Render "map" as by toString() if it is small enough and fits, else
+     * summarize it, starting over from where it started.
+     */
+
+    private boolean appendMap(Map<?, ?> map, int depth) {
+        int mark = buf.length();
+        if (depth < MAX_DEPTH && map.size() <= policy.getMaxElements()) {
+            if (appendEntries(map, depth)) {
+                return true;
+            }
+            buf.setLength(mark);
+        }
+        if (!append(map.getClass().getName()) || !append("(size=") || !append(Integer.toString(map.size())) || !append(")")) {
+            return false;
+        }
+        if (depth >= MAX_DEPTH) {
+            return true;
+        }
+        return appendEntries(map, depth);
+    }
+
+    private boolean appendEntries(Map<?, ?> map, int depth) {
+        if (!append("{")) {
+            return false;
+        }
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (count > 0 && !append(", ")) {
+                return false;
+            }
+            if (count >= policy.getMaxElements()) {
+                return append(RenderPolicy.TRUNCATION_MARKER) && append("}");
+            }
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            if (!appendObject(key == map ? "(this Map)" : key, depth + 1)
+                    || !append("=")
+                    || !appendObject(value == map ? "(this Map)" : value, depth + 1)) {
+                return false;
+            }
+            count++;
+        }
+        return append("}");
+    }
+
+    private boolean appendArray(Object array, int depth) {
+        int length = Array.getLength(array);
+        if (!append(array.getClass().getComponentType().getTypeName()) || !append("[") || !append(Integer.toString(length)) || !append("]")) {
+            return false;
+        }
+        if (depth >= MAX_DEPTH) {
+            return true;
+        }
+        if (!append("{")) {
+            return false;
+        }
+        int max = Math.min(length, policy.getMaxElements());
+        for (int i = 0; i < max; i++) {
+            if (i > 0 && !append(", ")) {
+                return false;
+            }
+            Object elem = Array.get(array, i);
+            if (!appendObject(elem == array ? "(this array)" : elem, depth + 1)) {
+                return false;
+            }
+        }
+        if (max < length) {
+            return append(max > 0 ? ", " : "") && append(RenderPolicy.TRUNCATION_MARKER) && append("}");
+        }
+        return append("}");
+    }
+
+    private boolean appendBytes(byte[] bytes) {
+        if (!append("byte[") || !append(Integer.toString(bytes.length)) || !append("]{hex:")) {
+            return false;
+        }
+        int max = Math.min(bytes.length, policy.getMaxHexBytes());
+        for (int i = 0; i < max; i++) {
+            if (full()) {
+                return false;
+            }
+            buf.append(HEX[(bytes[i] >> 4) & 0x0F]);
+            buf.append(HEX[bytes[i] & 0x0F]);
+        }
+        if (max < bytes.length) {
+            return append(RenderPolicy.TRUNCATION_MARKER) && append("}");
+        }
+        return append("}");
+    }
+}
@@ -4,11 +4,14 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.Buffer;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 /* 34567890123456789012345678901234567890123456789012345678901234567890123456789
  *******************************************************************************
@@ -104,6 +107,26 @@ import java.util.concurrent.atomic.AtomicLong;
  * 2014.08.08 - Removed checkNotNullwm(), or rather gave it the same name as
  *              checkNotNull() for user-friendly integration
  * 2015.08.07 - Namespace changed from "com.example" to "name.heavycarbon.checks"
+ * 2026.10.19 - Index checks rebuilt on Objects.checkIndex() and friends, added
+ *              "long" variants and range checks
+ * 2026.10.19 - checkNotNullAndNotEmpty() handles java.nio.Buffer; more
+ *              buffer checks are in "BufferChecks"
+ * 2026.10.19 - Added the opt-in "CannotHappenHandler"; failures are recorded
+ *              in "FailureHistory"
+ * 2026.10.19 - Failures are also recorded by the installed "FailureRecorder"
+ * 2026.10.19 - Failures and validations are counted by "CheckMetrics"
+ * 2026.10.19 - validate() times can be sampled into "ValidationTimings"
+ * 2026.10.19 - validateIt() skips "ValidateOnce" objects that passed before,
+ *              if the "ValidatedOnceCache" is enabled
+ * 2026.10.19 - checkFailed() follows the current "CheckPolicy"
+ * 2026.10.19 - Added lazy checkImplies() and imply() taking a BooleanSupplier,
+ *              and the short-circuiting checkAllOf()/checkAnyOf()/checkNoneOf()
+ * 2026.10.19 - checkMemberInContainer() points to "MembershipIndex"
+ * 2026.10.19 - Added checkNotNullAndInstanceOfAny(), backed by "AllowedTypes"
+ * 2026.10.19 - checkFailed() always throws; only the boolean checks accumulate
+ *              under a "CheckPolicy" that does not fail fast
+ * 2026.10.19 - Added checkFailed() with a cause, for "DeepValidation"
+ * 2026.10.19 - Index checks fail through checkFailed(), following the "CheckPolicy"
  * 
  * TODO: Needs a "less than"
  * TODO: Text formatting is still not nice :-((
@@ -161,6 +184,21 @@ public class BasicChecks {
         checkTrue(isAssertionsOn(), "Assertions should be on; enable them using the JVM '-ea' option!");
     }
 
+    /**
+     * Optional handler invoked by "cannotHappen()" before the Error is thrown,
+     * e.g. a "PostmortemWriter". Null by default.
+     */
+
+    private static volatile CannotHappenHandler cannotHappenHandler;
+
+    public static CannotHappenHandler getCannotHappenHandler() {
+        return cannotHappenHandler;
+    }
+
+    public static void setCannotHappenHandler(CannotHappenHandler handler) {
+        cannotHappenHandler = handler;
+    }
+
     /**
      * "cannotHappen()" is used in places that are not supposed to be traversed
      * at all or ever, for example "defaults" of switch statements where all the
@@ -193,6 +231,15 @@ public class BasicChecks {
 
     public static void cannotHappen(String txt, Throwable cause, Object... args) {
         String newTxt = Formatter.formatForMe(txt, args);
+        Failures.note(FailureRecorder.Kind.CANNOT_HAPPEN, Error.class, txt, args, newTxt);
+        CannotHappenHandler handler = cannotHappenHandler;
+        if (handler != null) {
+            try {
+                handler.cannotHappen(newTxt, cause, args);
+            } catch (Throwable t) {
+                // the Error below is what matters
+            }
+        }
         if (cause == null) {
             if (newTxt == null) {
                 throw new Error(CANNOT_HAPPEN_MSG);
@@ -212,6 +259,11 @@ public class BasicChecks {
      * Just throw, because a check failed. This is used by all the other methods
      * but can also be invoked directly. Not called "fail" to avoid clashes with
      * Junit's Assert.fail()
+     * 
+     * This always throws, also where a "CheckPolicy" that does not fail fast
+     * is bound, because callers rely on not getting past it; only the
+     * boolean checks checkTrue(), checkFalse(), checkImplies() and
+     * checkAllOf()/checkAnyOf()/checkNoneOf() accumulate instead.
      */
 
     public static void checkFailed() {
@@ -223,8 +275,49 @@ public class BasicChecks {
     }
 
     public static void checkFailed(String txt, Object... args) {
-        String newTxt = Formatter.formatForMe(txt, args);
-        throw new CheckFailedException(newTxt);
+        failed(FailureRecorder.Kind.CHECK_FAILED, null, txt, args);
+    }
+
+    /**
+     * As checkFailed(), with the exception that made the check fail attached
+     * as the cause.
+     */
+
+    static void checkFailed(Throwable cause, String txt, Object... args) {
+        failed(FailureRecorder.Kind.CHECK_FAILED, cause, txt, args);
+    }
+
+    /**
+     * As checkFailed(), for the index checks: the failure is noted as of kind
+     * INDEX.
+     */
+
+    static void checkIndexFailed(String txt, Object... args) {
+        failed(FailureRecorder.Kind.INDEX, null, txt, args);
+    }
+
+    private static void failed(FailureRecorder.Kind kind, Throwable cause, String txt, Object... args) {
+        CheckPolicy policy = CheckPolicy.current();
+        String newTxt = policy.isRenderMessages() ? Formatter.formatForMe(txt, args) : String.valueOf(txt);
+        Failures.note(kind, CheckFailedException.class, txt, args, newTxt);
+        throw CheckPolicy.newException(policy, newTxt, cause);
+    }
+
+    /**
+     * As checkFailed(), but the failure is accumulated if a "CheckPolicy" that
+     * does not fail fast is bound, in which case this returns normally. Only
+     * for checks after which the caller can carry on (such as the boolean
+     * checks, or "Check", which skips the steps after a failed one).
+     */
+
+    static void failedOrAccumulated(String txt, Object... args) {
+        CheckPolicy policy = CheckPolicy.current();
+        String newTxt = policy.isRenderMessages() ? Formatter.formatForMe(txt, args) : String.valueOf(txt);
+        Failures.note(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class, txt, args, newTxt);
+        CheckFailedException exe = CheckPolicy.newException(policy, newTxt);
+        if (policy.isFailFast() || !CheckPolicy.accumulate(exe)) {
+            throw exe;
+        }
     }
 
     /**
@@ -257,17 +350,23 @@ public class BasicChecks {
     }
 
     public static Object checkNotNull(Object x, String txt, Object arg) {
-        checkTrue(x != null, txt, arg);
+        if (x == null) {
+            checkFailed(txt, arg);
+        }
         return x;
     }
 
     public static Object checkNotNull(Object x, String txt, Object arg1, Object arg2) {
-        checkTrue(x != null, txt, arg1, arg2);
+        if (x == null) {
+            checkFailed(txt, arg1, arg2);
+        }
         return x;
     }
 
     public static Object checkNotNull(Object x, String txt, Object arg1, Object arg2, Object... args) {
-        checkTrue(x != null, txt, arg1, args, args);
+        if (x == null) {
+            checkFailed(txt, recopyArray(arg1, arg2, args));
+        }
         return x;
     }
 
@@ -294,8 +393,9 @@ public class BasicChecks {
     /**
      * Check that the passed Object is not null and "contains elements". The
      * meaning of "contains elements" depends on the actual type of "x".
-     * Collection, Map, CharSequence or Array are currently accepted as types for
-     * Object, with their respective evident meaning of "empty". An Object of
+     * Collection, Map, CharSequence, Array or java.nio.Buffer are currently
+     * accepted as types for Object, with their respective evident meaning of
+     * "empty" (for a Buffer: no elements between position and limit). An Object of
      * any other type will cause a CheckFailedException to be raised. The passed
      * Object is returned (as is done in Guava) so one can call the check
      * "inline". One may pass an optional "name" to name the Object in the
@@ -337,6 +437,15 @@ public class BasicChecks {
                 }
                 assert false : "Never get here";
             }
+        } else if (x instanceof Buffer) {
+            if (!((Buffer) x).hasRemaining()) {
+                if (name == null) {
+                    checkFailed("The unnamed " + x.getClass().getName() + " has no remaining elements");
+                } else {
+                    checkFailed("The " + x.getClass().getName() + " '" + name + "' has no remaining elements");
+                }
+                assert false : "Never get here";
+            }
         } else if (x.getClass().isArray()) {
             if (Array.getLength(x) == 0) {
                 if (name == null) {
@@ -425,37 +534,145 @@ public class BasicChecks {
     }
 
     /**
-     * Given a list, is the "index" in range
+     * Check that object "x" is an instance of any of the classes "classes".
+     * Passing "null" as "x", "classes" or any of the classes will result in
+     * a CheckFailedException. The passed Object is returned (as Object, the
+     * classes having no common type in general) so one can call the check
+     * "inline". Whether a concrete class is an instance of any of the classes
+     * is worked out once per set of classes and then cached, see
+     * "AllowedTypes"; a call site that always passes the same classes may as
+     * well hold an AllowedTypes in a static final field.
+     */
+
+    public static Object checkNotNullAndInstanceOfAny(Object x, Class<?>... classes) {
+        return checkNotNullAndInstanceOfAny(x, classes, null);
+    }
+
+    public static Object checkNotNullAndInstanceOfAny(Object x, Class<?>[] classes, String name) {
+        return AllowedTypes.cachedFor(classes).check(x, name);
+    }
+
+    /**
+     * Given a list, is the "index" in range. The bounds check itself is done by
+     * Objects.checkIndex(), which the JIT treats like its own array bounds
+     * checks (and may thus eliminate if redundant).
      */
 
     @SuppressWarnings({ "rawtypes", "boxing" })
     public static void checkElementIndex(int index, List list) {
         checkNotNull(list, "list");
         assert list != null;
+        int size = list.size();
         String txt = "The index value {} is out of range for a list with element range [0,{}[";
-        if (index < 0 || list.size() <= index) {
-            checkFailed(txt, index, list.size());
+        try {
+            Objects.checkIndex(index, size);
+        } catch (IndexOutOfBoundsException exe) {
+            checkFailed(txt, index, size);
         }
         if (FORMATTER_ALWAYS_ON) {
-            System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, index, list.size()));
+            System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, index, size));
         }
     }
 
     /**
-     * Given an array, is the "index" in range
+     * Given an array, is the "index" in range. The array length is obtained
+     * only once.
      */
 
     @SuppressWarnings("boxing")
     public static void checkElementIndex(int index, Object array) {
         checkNotNull(array, "array");
         assert array != null;
-        checkTrue(array.getClass().isArray(), "The passed Object is not an array but a {}", array.getClass().getName());
+        checkTrueOrThrow(array.getClass().isArray(), "The passed Object is not an array but a {}", array.getClass().getName());
+        int length = Array.getLength(array);
         String txt = "The index value {} is out of range for an array with element range [0,{}[";
-        if (index < 0 || Array.getLength(array) <= index) {
-            checkFailed(txt, index, Array.getLength(array));
+        try {
+            Objects.checkIndex(index, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkFailed(txt, index, length);
         }
         if (FORMATTER_ALWAYS_ON) {
-            System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, index, Array.getLength(array)));
+            System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, index, length));
+        }
+    }
+
+    /**
+     * Is "index" in [0,length[ ? The "index" is returned so one can call the
+     * check "inline". The "long" variant is meant for large off-heap buffers
+     * and memory segments, addressed by "long" offsets.
+     * 
+     * These are built on Objects.checkIndex(), which is a JIT intrinsic. The
+     * exception it throws is caught and replaced by a CheckFailedException;
+     * the catch costs nothing on the pass path.
+     */
+
+    @SuppressWarnings("boxing")
+    public static int checkIndex(int index, int length) {
+        try {
+            return Objects.checkIndex(index, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkIndexFailed("The index value {} is out of range [0,{}[", index, length);
+            throw new Error(NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    public static long checkIndex(long index, long length) {
+        try {
+            return Objects.checkIndex(index, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkIndexFailed("The index value {} is out of range [0,{}[", index, length);
+            throw new Error(NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+    }
+
+    /**
+     * Is the sub-range [fromIndex,toIndex[ within [0,length[ ? The "fromIndex"
+     * is returned.
+     */
+
+    @SuppressWarnings("boxing")
+    public static int checkFromToIndex(int fromIndex, int toIndex, int length) {
+        try {
+            return Objects.checkFromToIndex(fromIndex, toIndex, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkIndexFailed("The range [{},{}[ is out of range [0,{}[", fromIndex, toIndex, length);
+            throw new Error(NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    public static long checkFromToIndex(long fromIndex, long toIndex, long length) {
+        try {
+            return Objects.checkFromToIndex(fromIndex, toIndex, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkIndexFailed("The range [{},{}[ is out of range [0,{}[", fromIndex, toIndex, length);
+            throw new Error(NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+    }
+
+    /**
+     * Is the sub-range [fromIndex,fromIndex+size[ within [0,length[ ? The
+     * "fromIndex" is returned.
+     */
+
+    @SuppressWarnings("boxing")
+    public static int checkFromIndexSize(int fromIndex, int size, int length) {
+        try {
+            return Objects.checkFromIndexSize(fromIndex, size, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkIndexFailed("The range starting at {} of size {} is out of range [0,{}[", fromIndex, size, length);
+            throw new Error(NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    public static long checkFromIndexSize(long fromIndex, long size, long length) {
+        try {
+            return Objects.checkFromIndexSize(fromIndex, size, length);
+        } catch (IndexOutOfBoundsException exe) {
+            checkIndexFailed("The range starting at {} of size {} is out of range [0,{}[", fromIndex, size, length);
+            throw new Error(NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
         }
     }
 
@@ -464,6 +681,8 @@ public class BasicChecks {
      * be a Collection or Map or an Array. The "member" can be null, in which case the
      * container checked for "null", and depending on the implementation, that may
      * fail abysmally. For Map, we check the key set (not the value set).
+     * Arrays are scanned on every call; for repeated checks against the same
+     * large container, build a "MembershipIndex" once instead.
      */
 
     // TODO: Needs TestCase
@@ -977,19 +1196,19 @@ public class BasicChecks {
 
     public static void checkTrue(boolean x) {
         if (!x) {
-            checkFailed("Test for 'true' fails (no further indication or text)");
+            failedOrAccumulated("Test for 'true' fails (no further indication or text)", (Object[]) null);
         }
     }
 
     public static void checkTrue(boolean x, String txt) {
         if (!x) {
-            checkFailed(txt);
+            failedOrAccumulated(txt, (Object[]) null);
         }
     }
 
     public static void checkTrue(boolean x, String txt, Object arg) {
         if (!x) {
-            checkFailed(txt, arg);
+            failedOrAccumulated(txt, arg);
         }
         if (FORMATTER_ALWAYS_ON) {
             System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, arg));
@@ -998,7 +1217,7 @@ public class BasicChecks {
 
     public static void checkTrue(boolean x, String txt, Object arg1, Object arg2) {
         if (!x) {
-            checkFailed(txt, arg1, arg2);
+            failedOrAccumulated(txt, arg1, arg2);
         }
         if (FORMATTER_ALWAYS_ON) {
             System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, arg1, arg2));
@@ -1007,7 +1226,7 @@ public class BasicChecks {
 
     public static void checkTrue(boolean x, String txt, Object arg1, Object arg2, Object... args) {
         if (!x) {
-            checkFailed(txt, recopyArray(arg1, arg2, args));
+            failedOrAccumulated(txt, recopyArray(arg1, arg2, args));
             // will call the fail(String txt, Object... args) method
         }
         if (FORMATTER_ALWAYS_ON) {
@@ -1015,50 +1234,213 @@ public class BasicChecks {
         }
     }
 
+    /**
+     * As checkTrue(), but always throwing, also where failures are being
+     * accumulated; for checks of arguments that the code that follows relies
+     * on.
+     */
+
+    static void checkTrueOrThrow(boolean x, String txt) {
+        if (!x) {
+            checkFailed(txt);
+        }
+    }
+
+    static void checkTrueOrThrow(boolean x, String txt, Object arg) {
+        if (!x) {
+            checkFailed(txt, arg);
+        }
+    }
+
+    static void checkTrueOrThrow(boolean x, String txt, Object arg1, Object arg2) {
+        if (!x) {
+            checkFailed(txt, arg1, arg2);
+        }
+    }
+
+    static void checkTrueOrThrow(boolean x, String txt, Object arg1, Object arg2, Object... args) {
+        if (!x) {
+            checkFailed(txt, recopyArray(arg1, arg2, args));
+        }
+    }
+
     /**
      * Very generic: Check whether "a implies b"
      */
 
     public static void checkImplies(boolean a, boolean b) {
         if (a && !b) {
-            checkFailed("Test for 'implication' fails (no further indication or text)");
+            failedOrAccumulated("Test for 'implication' fails (no further indication or text)", (Object[]) null);
         }
     }
 
     public static void checkImplies(boolean a, boolean b, String txt) {
         if (a && !b) {
-            checkFailed(txt);
+            failedOrAccumulated(txt, (Object[]) null);
         }
     }
 
     public static void checkImplies(boolean a, boolean b, String txt, Object... args) {
         if (a && !b) {
-            checkFailed(txt, args);
+            failedOrAccumulated(txt, args);
         }
         if (FORMATTER_ALWAYS_ON) {
             System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, args));
         }
     }
 
+    /**
+     * Check whether "a implies b", evaluating "b" only if "a" holds. Use this
+     * if the consequent is expensive. A non-capturing lambda (or one the JIT
+     * can scalar-replace) does not allocate.
+     */
+
+    public static void checkImplies(boolean a, BooleanSupplier b) {
+        if (a && !b.getAsBoolean()) {
+            failedOrAccumulated("Test for 'implication' fails (no further indication or text)", (Object[]) null);
+        }
+    }
+
+    public static void checkImplies(boolean a, BooleanSupplier b, String txt) {
+        if (a && !b.getAsBoolean()) {
+            failedOrAccumulated(txt, (Object[]) null);
+        }
+    }
+
+    public static void checkImplies(boolean a, BooleanSupplier b, String txt, Object... args) {
+        if (a && !b.getAsBoolean()) {
+            failedOrAccumulated(txt, args);
+        }
+    }
+
+    /**
+     * Check that all of the conditions hold. Evaluation stops at the first one
+     * that does not; the message says which one that was (counting from 0).
+     * The fixed-arity variants avoid the varargs array.
+     */
+
+    public static void checkAllOf(String txt, BooleanSupplier c0, BooleanSupplier c1) {
+        if (!c0.getAsBoolean()) {
+            failedAt(txt, "allOf", "is false", 0, 2);
+        } else if (!c1.getAsBoolean()) {
+            failedAt(txt, "allOf", "is false", 1, 2);
+        }
+    }
+
+    public static void checkAllOf(String txt, BooleanSupplier c0, BooleanSupplier c1, BooleanSupplier c2) {
+        if (!c0.getAsBoolean()) {
+            failedAt(txt, "allOf", "is false", 0, 3);
+        } else if (!c1.getAsBoolean()) {
+            failedAt(txt, "allOf", "is false", 1, 3);
+        } else if (!c2.getAsBoolean()) {
+            failedAt(txt, "allOf", "is false", 2, 3);
+        }
+    }
+
+    public static void checkAllOf(String txt, BooleanSupplier... conditions) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (!conditions[i].getAsBoolean()) {
+                failedAt(txt, "allOf", "is false", i, conditions.length);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Check that at least one of the conditions holds. Evaluation stops at the
+     * first one that does.
+     */
+
+    public static void checkAnyOf(String txt, BooleanSupplier c0, BooleanSupplier c1) {
+        if (!c0.getAsBoolean() && !c1.getAsBoolean()) {
+            failedAnyOf(txt, 2);
+        }
+    }
+
+    public static void checkAnyOf(String txt, BooleanSupplier c0, BooleanSupplier c1, BooleanSupplier c2) {
+        if (!c0.getAsBoolean() && !c1.getAsBoolean() && !c2.getAsBoolean()) {
+            failedAnyOf(txt, 3);
+        }
+    }
+
+    public static void checkAnyOf(String txt, BooleanSupplier... conditions) {
+        for (BooleanSupplier condition : conditions) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+        }
+        failedAnyOf(txt, conditions.length);
+    }
+
+    /**
+     * Check that none of the conditions holds. Evaluation stops at the first
+     * one that does; the message says which one that was (counting from 0).
+     */
+
+    public static void checkNoneOf(String txt, BooleanSupplier c0, BooleanSupplier c1) {
+        if (c0.getAsBoolean()) {
+            failedAt(txt, "noneOf", "is true", 0, 2);
+        } else if (c1.getAsBoolean()) {
+            failedAt(txt, "noneOf", "is true", 1, 2);
+        }
+    }
+
+    public static void checkNoneOf(String txt, BooleanSupplier c0, BooleanSupplier c1, BooleanSupplier c2) {
+        if (c0.getAsBoolean()) {
+            failedAt(txt, "noneOf", "is true", 0, 3);
+        } else if (c1.getAsBoolean()) {
+            failedAt(txt, "noneOf", "is true", 1, 3);
+        } else if (c2.getAsBoolean()) {
+            failedAt(txt, "noneOf", "is true", 2, 3);
+        }
+    }
+
+    public static void checkNoneOf(String txt, BooleanSupplier... conditions) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].getAsBoolean()) {
+                failedAt(txt, "noneOf", "is true", i, conditions.length);
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void failedAt(String txt, String combinator, String what, int index, int count) {
+        if (txt == null) {
+            failedOrAccumulated("Test for '{}' fails: condition [{}] of {} {}", combinator, index, count, what);
+        } else {
+            failedOrAccumulated("{}: condition [{}] of {}({}) {}", txt, index, combinator, count, what);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void failedAnyOf(String txt, int count) {
+        if (txt == null) {
+            failedOrAccumulated("Test for 'anyOf' fails: none of {} conditions is true", count);
+        } else {
+            failedOrAccumulated("{}: none of the conditions of anyOf({}) is true", txt, count);
+        }
+    }
+
     /**
      * Very generic: Check whether a condition yields "false"
      */
 
     public static void checkFalse(boolean x) {
         if (x) {
-            checkFailed("Test for 'false' fails (no further indication or text)");
+            failedOrAccumulated("Test for 'false' fails (no further indication or text)", (Object[]) null);
         }
     }
 
     public static void checkFalse(boolean x, String txt) {
         if (x) {
-            checkFailed(txt);
+            failedOrAccumulated(txt, (Object[]) null);
         }
     }
 
     public static void checkFalse(boolean x, String txt, Object arg) {
         if (x) {
-            checkFailed(txt, arg);
+            failedOrAccumulated(txt, arg);
         }
         if (FORMATTER_ALWAYS_ON) {
             System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, arg));
@@ -1067,7 +1449,7 @@ public class BasicChecks {
 
     public static void checkFalse(boolean x, String txt, Object arg1, Object arg2) {
         if (x) {
-            checkFailed(txt, arg1, arg2);
+            failedOrAccumulated(txt, arg1, arg2);
         }
         if (FORMATTER_ALWAYS_ON) {
             System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, arg1, arg2));
@@ -1076,7 +1458,7 @@ public class BasicChecks {
 
     public static void checkFalse(boolean x, String txt, Object arg1, Object arg2, Object... args) {
         if (x) {
-            checkFailed(txt, recopyArray(arg1, arg2, args));
+            failedOrAccumulated(txt, recopyArray(arg1, arg2, args));
         }
         if (FORMATTER_ALWAYS_ON) {
             System.err.println(Formatter.formatForMe(INNOCUOUS_TEXT + txt, recopyArray(arg1, arg2, args)));
@@ -1107,6 +1489,12 @@ public class BasicChecks {
             return obj;
         }
         //
+        // Return if this immutable object has passed validation before
+        //
+        if (ValidatedOnceCache.isValidated(obj)) {
+            return obj;
+        }
+        //
         // Get the method "validate()", return if it does not exist. The return
         // parameter is not interesting
         //
@@ -1115,6 +1503,7 @@ public class BasicChecks {
             m = obj.getClass().getMethod("validate", (Class<?>[]) null);
         } catch (NoSuchMethodException exe) {
             // Why the brutal throw, Java? Ok, do nothing and return at once
+            ValidatedOnceCache.remember(obj);
             return obj;
         }
         assert m != null;
@@ -1124,6 +1513,8 @@ public class BasicChecks {
         //
         Object res = null;
         Throwable tlow = null; // may contain more info
+        boolean timed = ValidationTimings.sample();
+        long start = timed ? System.nanoTime() : 0;
         try {
             res = m.invoke(obj);
         } catch (IllegalAccessException exe) {
@@ -1133,16 +1524,23 @@ public class BasicChecks {
         } catch (Throwable t) {
             tlow = t;
         }
+        if (timed) {
+            ValidationTimings.record(obj.getClass(), System.nanoTime() - start);
+        }
         //
         // So what's up? If a Throwable was thrown or validation said "FALSE",
         // assume the game's up
         //
-        if (tlow != null || Boolean.FALSE.equals(res)) {
+        boolean failed = (tlow != null || Boolean.FALSE.equals(res));
+        CheckMetrics.countValidation(obj.getClass(), failed);
+        if (failed) {
             // Should this yield an AssertionError or a more harmless
             // CheckFailedException?
             // The CheckFailedException is preferred, but the caller may change
             // that.
             String msg = "Validation of object of type '" + obj.getClass().getName() + "' failed";
+            Failures.note(FailureRecorder.Kind.VALIDATION, yieldsAssertionError ? AssertionError.class : CheckFailedException.class,
+                    "Validation of object of type '{}' failed", new Object[]{obj.getClass().getName()}, msg);
             if (yieldsAssertionError) {
                 throw new AssertionError(msg);
             } else {
@@ -1153,18 +1551,28 @@ public class BasicChecks {
                 }
             }
         }
+        ValidatedOnceCache.remember(obj);
         return obj;
     }
 
     /**
-     * Helper for implications; unfortunately the consequent cannot be lazily
-     * evaluated :-(
+     * Helper for implications; the consequent is evaluated eagerly, see the
+     * variant taking a BooleanSupplier.
      */
 
     public static boolean imply(boolean antecedent, boolean consequent) {
         return !antecedent || consequent;
     }
 
+    /**
+     * Helper for implications; the consequent is only evaluated if the
+     * antecedent holds.
+     */
+
+    public static boolean imply(boolean antecedent, BooleanSupplier consequent) {
+        return !antecedent || consequent.getAsBoolean();
+    }
+
     /**
      * Helper
      */
@@ -0,0 +1,150 @@
+package name.heavycarbon.checks;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * A latency budget for a request: a start time and a deadline, both on the
+ * scale of a "NanoClock". Checking against the budget costs exactly one
+ * clock read. Instances are immutable and can be shared between threads.
+ *
+ * A budget can be passed around explicitly, or bound for the duration of a
+ * Runnable/Callable with runWith()/callWith(), after which current() returns
+ * it anywhere in the call tree. Bindings nest and are undone on return.
+ *
+ *    Budget.runWith(Budget.start(Duration.ofMillis(250)), () -> handle(req));
+ *
+ *    void handle(Request req) {
+ *       ...
+ *       DeadlineChecks.checkWithinDeadline("after lookup");
+ *       ...
+ *    }
+ *
+ * Note: java.lang.ScopedValue would be the natural carrier for the binding,
+ * but it is a preview API in Java 21, so the binding is done with a
+ * ThreadLocal that is set and restored around the call.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public final class Budget {
+
+    private static final ThreadLocal<Budget> CURRENT = new ThreadLocal<>();
+
+    private final NanoClock clock;
+    private final long startNanos;
+    private final long deadlineNanos;
+
+    private Budget(NanoClock clock, long startNanos, long deadlineNanos) {
+        this.clock = clock;
+        this.startNanos = startNanos;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Start a budget of "limit", beginning now, on the system clock.
+     */
+
+    public static Budget start(Duration limit) {
+        BasicChecks.checkNotNull(limit, "limit");
+        return start(limit.toNanos(), NanoClock.SYSTEM);
+    }
+
+    /**
+     * Start a budget of "limitNanos", beginning now, on the given clock.
+     */
+
+    @SuppressWarnings("boxing")
+    public static Budget start(long limitNanos, NanoClock clock) {
+        BasicChecks.checkNotNull(clock, "clock");
+        BasicChecks.checkTrueOrThrow(limitNanos >= 0, "The 'limitNanos' is less than 0: {}", limitNanos);
+        long now = clock.nanoTime();
+        return new Budget(clock, now, now + limitNanos);
+    }
+
+    public NanoClock getClock() {
+        return clock;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    public long getLimitNanos() {
+        return deadlineNanos - startNanos;
+    }
+
+    /**
+     * Time remaining until the deadline as of now; zero or negative if the
+     * budget has been used up.
+     */
+
+    public long remainingNanos() {
+        return deadlineNanos - clock.nanoTime();
+    }
+
+    public long elapsedNanos() {
+        return clock.nanoTime() - startNanos;
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * The budget bound to the current thread, or null if there is none.
+     */
+
+    public static Budget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run "runnable" with "budget" bound as the current budget.
+     */
+
+    public static void runWith(Budget budget, Runnable runnable) {
+        BasicChecks.checkNotNull(runnable, "runnable");
+        Budget previous = CURRENT.get();
+        CURRENT.set(budget);
+        try {
+            runnable.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Call "callable" with "budget" bound as the current budget.
+     */
+
+    public static <T> T callWith(Budget budget, Callable<T> callable) throws Exception {
+        BasicChecks.checkNotNull(callable, "callable");
+        Budget previous = CURRENT.get();
+        CURRENT.set(budget);
+        try {
+            return callable.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(Budget previous) {
+        if (previous == null) {
+            CURRENT.remove(); // do not leave an entry behind on pooled threads
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Budget[limit=" + getLimitNanos() + "ns]";
+    }
+}
@@ -0,0 +1,164 @@
+package name.heavycarbon.checks;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Structural checks for NIO buffers, as passed around on zero-copy I/O paths.
+ *
+ * These are meant to be cheap enough to be called per packet: on success
+ * they only read a few fields of the buffer and return it (so one can call
+ * the check "inline"); a message is formatted only on failure.
+ *
+ * Import this class statically, like "BasicChecks":
+ *
+ *    import static name.heavycarbon.checks.BufferChecks.*
+ *
+ *    ByteBuffer bb = checkRemainingAtLeast(channelBuffer, 8, "header");
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public class BufferChecks {
+
+    /**
+     * Check that at least "n" elements remain between position and limit.
+     */
+
+    public static <B extends Buffer> B checkRemainingAtLeast(B buf, int n) {
+        return checkRemainingAtLeast(buf, n, null);
+    }
+
+    @SuppressWarnings("boxing")
+    public static <B extends Buffer> B checkRemainingAtLeast(B buf, int n, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        if (buf.remaining() < n) {
+            failOn(buf, name, "has {} remaining elements but at least {} are needed (position {}, limit {})",
+                    buf.remaining(), n, buf.position(), buf.limit());
+        }
+        return buf;
+    }
+
+    /**
+     * Check that the buffer's position and limit are exactly the expected
+     * ones, e.g. position 0 and limit "n" after a flip() that follows writing
+     * "n" elements.
+     */
+
+    public static <B extends Buffer> B checkPositionAndLimit(B buf, int position, int limit) {
+        return checkPositionAndLimit(buf, position, limit, null);
+    }
+
+    @SuppressWarnings("boxing")
+    public static <B extends Buffer> B checkPositionAndLimit(B buf, int position, int limit, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        if (buf.position() != position || buf.limit() != limit) {
+            failOn(buf, name, "has position {} and limit {} but position {} and limit {} were expected",
+                    buf.position(), buf.limit(), position, limit);
+        }
+        return buf;
+    }
+
+    /**
+     * Check that the element at the buffer's position lies at a memory address
+     * aligned to "unitSize" bytes, which must be a power of two. For heap
+     * buffers, the JDK only supports unit sizes up to 8 (larger ones make the
+     * check fail).
+     */
+
+    public static ByteBuffer checkAligned(ByteBuffer buf, int unitSize) {
+        return checkAligned(buf, unitSize, null);
+    }
+
+    @SuppressWarnings("boxing")
+    public static ByteBuffer checkAligned(ByteBuffer buf, int unitSize, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        BasicChecks.checkTrueOrThrow(unitSize > 0 && (unitSize & (unitSize - 1)) == 0, "The unit size {} is not a power of 2", unitSize);
+        int offset;
+        try {
+            offset = buf.alignmentOffset(buf.position(), unitSize);
+        } catch (UnsupportedOperationException exe) {
+            failOn(buf, name, "cannot be checked for alignment to {} bytes: {}", unitSize, exe.getMessage());
+            throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+        if (offset != 0) {
+            failOn(buf, name, "has its position {} misaligned by {} bytes relative to {}-byte boundaries",
+                    buf.position(), offset, unitSize);
+        }
+        return buf;
+    }
+
+    /**
+     * Check that the buffer is direct (off-heap), respectively that it is a
+     * heap buffer.
+     */
+
+    public static <B extends Buffer> B checkDirect(B buf) {
+        return checkDirect(buf, null);
+    }
+
+    public static <B extends Buffer> B checkDirect(B buf, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        if (!buf.isDirect()) {
+            failOn(buf, name, "is not direct");
+        }
+        return buf;
+    }
+
+    public static <B extends Buffer> B checkHeap(B buf) {
+        return checkHeap(buf, null);
+    }
+
+    public static <B extends Buffer> B checkHeap(B buf, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        if (buf.isDirect()) {
+            failOn(buf, name, "is not a heap buffer");
+        }
+        return buf;
+    }
+
+    /**
+     * Check that the buffer is read-only, respectively that it is writable.
+     */
+
+    public static <B extends Buffer> B checkReadOnly(B buf) {
+        return checkReadOnly(buf, null);
+    }
+
+    public static <B extends Buffer> B checkReadOnly(B buf, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        if (!buf.isReadOnly()) {
+            failOn(buf, name, "is not read-only");
+        }
+        return buf;
+    }
+
+    public static <B extends Buffer> B checkWritable(B buf) {
+        return checkWritable(buf, null);
+    }
+
+    public static <B extends Buffer> B checkWritable(B buf, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        if (buf.isReadOnly()) {
+            failOn(buf, name, "is read-only");
+        }
+        return buf;
+    }
+
+    /**
+     * Helper, only called on failure. Prefixes "txt" with a description of
+     * the buffer.
+     */
+
+    private static void failOn(Buffer buf, String name, String txt, Object... args) {
+        String prefix;
+        if (name == null) {
+            prefix = "The unnamed " + buf.getClass().getName() + " ";
+        } else {
+            prefix = "The " + buf.getClass().getName() + " '" + name + "' ";
+        }
+        BasicChecks.checkFailed(prefix + txt, args);
+    }
+}
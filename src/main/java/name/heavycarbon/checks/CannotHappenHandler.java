@@ -0,0 +1,24 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Opt-in hook called by BasicChecks.cannotHappen() just before it throws its
+ * Error, while the state that explains the problem still exists. Register
+ * with BasicChecks.setCannotHappenHandler().
+ *
+ * Implementations run on the failing thread and must return quickly; in
+ * particular they must not block on I/O. Anything they throw is ignored.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+@FunctionalInterface
+public interface CannotHappenHandler {
+
+    /**
+     * "message" is the formatted message (may be null), "cause" and "args" are
+     * as passed to cannotHappen() (may be null).
+     */
+
+    void cannotHappen(String message, Throwable cause, Object[] args);
+}
@@ -6,6 +6,7 @@ package name.heavycarbon.checks;
  * 
  * 2014.02.01 - Namespace changed from "com.mplify.checkers" to "com.example"
  * 2015.08.07 - Namespace changed from "com.example" to "name.heavycarbon.checks"
+ * 2026.10.19 - Added the constructor that can skip the stack trace
  ******************************************************************************/
 
 @SuppressWarnings("serial")
@@ -26,6 +27,10 @@ public class CheckFailedException extends RuntimeException {
     public CheckFailedException(Throwable cause) {
         super(cause);
     }
+
+    protected CheckFailedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
     
 }
 
@@ -0,0 +1,175 @@
+package name.heavycarbon.checks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Optional counters about checks, for export to Prometheus (see
+ * "PrometheusExporter"):
+ *
+ * - check failures, by check kind and by type of what was thrown,
+ * - validateIt() invocations and failures, by class of the validated object,
+ * - number of formatted messages and total time spent formatting them.
+ *
+ * Counting is off until setEnabled(true) is called; while off, the cost is a
+ * volatile read. Counters are striped (LongAdder), so many threads failing
+ * checks at the same time do not contend. Each counter series carries its
+ * pre-encoded Prometheus name and labels, so that exposition does not need
+ * to allocate.
+ *
+ * Series are never removed. The per-class series hold on to the Class.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Failures are sampled as the current "CheckPolicy" says
+ ******************************************************************************/
+
+public class CheckMetrics {
+
+    /**
+     * One counter with its Prometheus name and labels, e.g.
+     * "checks_failures_total{kind="INDEX",exception="..."} ", pre-encoded in
+     * US-ASCII (class names are encoded as UTF-8).
+     */
+
+    static final class Series {
+
+        final byte[] prefix;
+        final LongAdder adder = new LongAdder();
+
+        Series(String nameAndLabels) {
+            this.prefix = (nameAndLabels + " ").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The validateIt() series of one class.
+     */
+
+    static final class ValidationSeries {
+
+        final Series invocations;
+        final Series failures;
+
+        ValidationSeries(Class<?> clazz) {
+            String label = "{class=\"" + escape(clazz.getName()) + "\"}";
+            invocations = new Series("checks_validate_invocations_total" + label);
+            failures = new Series("checks_validate_failures_total" + label);
+        }
+    }
+
+    private static volatile boolean enabled;
+
+    private static final FailureRecorder.Kind[] KINDS = FailureRecorder.Kind.values();
+
+    private static final ConcurrentHashMap<Class<?>, Series[]> failuresByThrown = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, ValidationSeries> validationsByClass = new ConcurrentHashMap<>();
+
+    // Kept for exposition, in order of creation
+    static final Queue<Series> failureSeries = new ConcurrentLinkedQueue<>();
+    static final Queue<ValidationSeries> validationSeries = new ConcurrentLinkedQueue<>();
+
+    static final Series formattingCount = new Series("checks_formatting_total");
+    static final Series formattingNanos = new Series("checks_formatting_nanoseconds_total");
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    // ---
+    // Recording; called from the checks
+    // ---
+
+    static void countFailure(FailureRecorder.Kind kind, Class<? extends Throwable> thrown) {
+        if (enabled) {
+            int every = CheckPolicy.current().getMetricsSampleEvery();
+            if (every == 1) {
+                failureSeriesFor(thrown)[kind.ordinal()].adder.increment();
+            } else if (every > 1 && ThreadLocalRandom.current().nextInt(every) == 0) {
+                failureSeriesFor(thrown)[kind.ordinal()].adder.add(every);
+            }
+        }
+    }
+
+    static void countValidation(Class<?> clazz, boolean failed) {
+        if (enabled) {
+            ValidationSeries series = validationSeriesFor(clazz);
+            series.invocations.adder.increment();
+            if (failed) {
+                series.failures.adder.increment();
+            }
+        }
+    }
+
+    static void countFormatting(long nanos) {
+        // "enabled" has been tested by the caller, which measured the time
+        formattingCount.adder.increment();
+        formattingNanos.adder.add(nanos);
+    }
+
+    private static Series[] failureSeriesFor(Class<? extends Throwable> thrown) {
+        Series[] res = failuresByThrown.get(thrown);
+        if (res == null) {
+            res = failuresByThrown.computeIfAbsent(thrown, c -> {
+                Series[] array = new Series[KINDS.length];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = new Series("checks_failures_total{kind=\"" + KINDS[i] + "\",exception=\"" + escape(c.getName()) + "\"}");
+                    failureSeries.add(array[i]);
+                }
+                return array;
+            });
+        }
+        return res;
+    }
+
+    private static ValidationSeries validationSeriesFor(Class<?> clazz) {
+        ValidationSeries res = validationsByClass.get(clazz);
+        if (res == null) {
+            res = validationsByClass.computeIfAbsent(clazz, c -> {
+                ValidationSeries series = new ValidationSeries(c);
+                validationSeries.add(series);
+                return series;
+            });
+        }
+        return res;
+    }
+
+    static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    // ---
+    // Reading
+    // ---
+
+    public static long getFailureCount(FailureRecorder.Kind kind, Class<? extends Throwable> thrown) {
+        Series[] series = failuresByThrown.get(thrown);
+        return (series == null) ? 0 : series[kind.ordinal()].adder.sum();
+    }
+
+    public static long getValidationCount(Class<?> clazz) {
+        ValidationSeries series = validationsByClass.get(clazz);
+        return (series == null) ? 0 : series.invocations.adder.sum();
+    }
+
+    public static long getValidationFailureCount(Class<?> clazz) {
+        ValidationSeries series = validationsByClass.get(clazz);
+        return (series == null) ? 0 : series.failures.adder.sum();
+    }
+
+    public static long getFormattingCount() {
+        return formattingCount.adder.sum();
+    }
+
+    public static long getFormattingNanos() {
+        return formattingNanos.adder.sum();
+    }
+}
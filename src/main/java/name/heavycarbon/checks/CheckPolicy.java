@@ -0,0 +1,271 @@
+package name.heavycarbon.checks;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * How failing checks behave, per request:
+ *
+ * - "failFast": if true, a failing check throws at once. If false, failures
+ *   of the boolean checks (checkTrue(), checkFalse(), checkImplies() and
+ *   checkAllOf()/checkAnyOf()/checkNoneOf(), and the range checks built on
+ *   them, which return their argument unchanged) are accumulated and the
+ *   check returns normally; when the runWith()/callWith() that bound the
+ *   policy returns, a single CheckFailedException is thrown that carries the
+ *   accumulated failures as suppressed exceptions. All other checks, such as
+ *   checkNotNull(), and checkFailed() itself still throw at once, because
+ *   the code after them relies on them; what was accumulated until then is
+ *   attached to that exception. Outside of a binding, checks always fail
+ *   fast.
+ * - "stackTraces": if false, the thrown CheckFailedException does not fill in
+ *   its stack trace, which is the most expensive part of throwing.
+ * - "renderMessages": if false, the message is the unformatted template; the
+ *   arguments are neither rendered nor inserted.
+ * - "metricsSampleEvery": "CheckMetrics" counts one in this many failures
+ *   (each counted one standing for this many); 0 counts none.
+ *
+ *    CheckPolicy.runWith(new CheckPolicy(false, false, true, 1), () -> validate(req));
+ *
+ * Instances are immutable. The policy is consulted only once a check has
+ * failed; passing checks do not look at it.
+ *
+ * Note: java.lang.ScopedValue would be the natural carrier for the binding,
+ * but it is a preview API in Java 21, so (as for "Budget") the binding is
+ * done with a ThreadLocal that is set and restored around the call, and is
+ * not inherited by other threads. Reading it costs a ThreadLocal lookup.
+ * "ConcurrentChecks" passes the binding on to its subtasks.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Bindings can be passed on to other threads
+ * 2026.10.19 - Only the boolean checks accumulate; checkFailed() always throws
+ ******************************************************************************/
+
+public class CheckPolicy {
+
+    /**
+     * The initial default: fail fast with stack traces and rendered messages,
+     * count every failure.
+     */
+
+    public static final CheckPolicy STRICT = new CheckPolicy(true, true, true, 1);
+
+    /**
+     * At most this many failures are kept as suppressed exceptions when
+     * accumulating; further ones are only counted.
+     */
+
+    public static final int MAX_ACCUMULATED = 64;
+
+    /**
+     * A policy bound by runWith()/callWith() together with the failures it
+     * accumulated.
+     */
+
+    static final class Binding {
+
+        final CheckPolicy policy;
+        Binding previous;
+        final Queue<CheckFailedException> failures = new ConcurrentLinkedQueue<>();
+        final AtomicInteger failureCount = new AtomicInteger();
+
+        Binding(CheckPolicy policy) {
+            this.policy = policy;
+        }
+
+        void accumulate(CheckFailedException exe) {
+            if (failureCount.incrementAndGet() <= MAX_ACCUMULATED) {
+                failures.add(exe);
+            }
+        }
+
+        CheckFailedException collected() {
+            int count = failureCount.get();
+            if (count == 0) {
+                return null;
+            }
+            CheckFailedException first = failures.peek();
+            String msg = (count == 1) ? first.getMessage() : count + " checks failed, the first one: " + first.getMessage();
+            CheckFailedException res = new CheckFailedException(msg, null, true, policy.stackTraces);
+            failures.forEach(res::addSuppressed);
+            return res;
+        }
+    }
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    private static volatile CheckPolicy defaultPolicy = STRICT;
+
+    private final boolean failFast;
+    private final boolean stackTraces;
+    private final boolean renderMessages;
+    private final int metricsSampleEvery;
+
+    @SuppressWarnings("boxing")
+    public CheckPolicy(boolean failFast, boolean stackTraces, boolean renderMessages, int metricsSampleEvery) {
+        BasicChecks.checkTrueOrThrow(metricsSampleEvery >= 0, "The 'metricsSampleEvery' is less than 0: {}", metricsSampleEvery);
+        this.failFast = failFast;
+        this.stackTraces = stackTraces;
+        this.renderMessages = renderMessages;
+        this.metricsSampleEvery = metricsSampleEvery;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public boolean isStackTraces() {
+        return stackTraces;
+    }
+
+    public boolean isRenderMessages() {
+        return renderMessages;
+    }
+
+    public int getMetricsSampleEvery() {
+        return metricsSampleEvery;
+    }
+
+    /**
+     * The policy used where none is bound.
+     */
+
+    public static CheckPolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    public static void setDefault(CheckPolicy policy) {
+        defaultPolicy = (CheckPolicy) BasicChecks.checkNotNull(policy, "policy");
+    }
+
+    /**
+     * The policy bound to the current thread, else the default.
+     */
+
+    public static CheckPolicy current() {
+        Binding binding = CURRENT.get();
+        return (binding == null) ? defaultPolicy : binding.policy;
+    }
+
+    /**
+     * The binding of the current thread, or null; for passing it on to
+     * another thread with runIn().
+     */
+
+    static Binding currentBinding() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Accumulate "exe" if a binding that does not fail fast is in effect.
+     * Returns false if "exe" should be thrown instead.
+     */
+
+    static boolean accumulate(CheckFailedException exe) {
+        Binding binding = CURRENT.get();
+        if (binding == null || binding.policy.failFast) {
+            return false;
+        }
+        binding.accumulate(exe);
+        return true;
+    }
+
+    /**
+     * Create the exception to be thrown for a failure under "policy".
+     */
+
+    static CheckFailedException newException(CheckPolicy policy, String msg) {
+        return newException(policy, msg, null);
+    }
+
+    static CheckFailedException newException(CheckPolicy policy, String msg, Throwable cause) {
+        return new CheckFailedException(msg, cause, true, policy.stackTraces);
+    }
+
+    /**
+     * Run "runnable" with "policy" bound. Throws the accumulated failures, if
+     * any, on return; if "runnable" throws, they are attached to what it
+     * threw as suppressed exceptions.
+     */
+
+    public static void runWith(CheckPolicy policy, Runnable runnable) {
+        BasicChecks.checkNotNull(runnable, "runnable");
+        Binding binding = bind(policy);
+        try {
+            runnable.run();
+        } catch (Throwable t) {
+            unbind(binding, t);
+            throw t;
+        }
+        unbind(binding, null);
+    }
+
+    /**
+     * Call "callable" with "policy" bound. See runWith().
+     */
+
+    public static <T> T callWith(CheckPolicy policy, Callable<T> callable) throws Exception {
+        BasicChecks.checkNotNull(callable, "callable");
+        Binding binding = bind(policy);
+        T res;
+        try {
+            res = callable.call();
+        } catch (Throwable t) {
+            unbind(binding, t);
+            throw t;
+        }
+        unbind(binding, null);
+        return res;
+    }
+
+    /**
+     * Run "runnable" in "binding" (which may be null), as captured with
+     * currentBinding() on another thread. Accumulated failures go to that
+     * binding.
+     */
+
+    static void runIn(Binding binding, Runnable runnable) {
+        Binding previous = CURRENT.get();
+        CURRENT.set(binding);
+        try {
+            runnable.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static Binding bind(CheckPolicy policy) {
+        Binding binding = new Binding((CheckPolicy) BasicChecks.checkNotNull(policy, "policy"));
+        binding.previous = CURRENT.get();
+        CURRENT.set(binding);
+        return binding;
+    }
+
+    private static void unbind(Binding binding, Throwable thrown) {
+        restore(binding.previous);
+        if (thrown != null) {
+            binding.failures.forEach(thrown::addSuppressed);
+        } else {
+            CheckFailedException collected = binding.collected();
+            if (collected != null) {
+                throw collected;
+            }
+        }
+    }
+
+    private static void restore(Binding previous) {
+        if (previous == null) {
+            CURRENT.remove(); // do not leave an entry behind on pooled threads
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CheckPolicy[failFast=" + failFast + ", stackTraces=" + stackTraces + ", renderMessages=" + renderMessages
+                + ", metricsSampleEvery=" + metricsSampleEvery + "]";
+    }
+}
@@ -0,0 +1,169 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Runs independent, expensive checks (large validateIt() graphs, big
+ * membership scans, ...) concurrently, one virtual thread each, so that the
+ * whole takes about as long as the slowest check rather than the sum.
+ *
+ *    ConcurrentChecks.runAll(ConcurrentChecks.Mode.FAIL_FAST,
+ *          () -> BasicChecks.validateIt(order),
+ *          () -> BasicChecks.checkMemberInContainer(item, catalog));
+ *
+ * - FAIL_FAST: on the first failure the other checks are cancelled
+ *   (interrupted) and that failure is rethrown as is.
+ * - COLLECT: all checks run to completion; if any failed, a single
+ *   CheckFailedException is thrown that carries all failures, in the order
+ *   of the checks, as suppressed exceptions. An Error is rethrown as is, with
+ *   the other failures attached.
+ *
+ * In both modes, runAll() returns only once every check has finished: no
+ * check outlives the call. If the calling thread is interrupted while
+ * waiting, the checks are cancelled (interrupted), and once they have
+ * finished a CheckFailedException is thrown with the interrupt flag set. The "CheckPolicy" and the "Budget" bound to the
+ * calling thread are bound in the subtasks, too.
+ *
+ * Note: this is what java.util.concurrent.StructuredTaskScope is meant for,
+ * but it is a preview API in Java 21, so the scope is built from a
+ * virtual-thread-per-task executor whose close() waits for all subtasks.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - runBound() is shared with "DeepValidation"
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - An interrupted runAll() cancels the checks
+ ******************************************************************************/
+
+public class ConcurrentChecks {
+
+    public enum Mode {
+        FAIL_FAST, COLLECT
+    }
+
+    public static void runAll(Mode mode, Runnable... checks) {
+        BasicChecks.checkNotNull(checks, "checks");
+        runAll(mode, Arrays.asList(checks));
+    }
+
+    @SuppressWarnings("boxing")
+    public static void runAll(Mode mode, List<? extends Runnable> checks) {
+        BasicChecks.checkNotNull(mode, "mode");
+        BasicChecks.checkNotNull(checks, "checks");
+        for (int i = 0; i < checks.size(); i++) {
+            BasicChecks.checkTrueOrThrow(checks.get(i) != null, "The check at index {} is (null)", i);
+        }
+        if (checks.isEmpty()) {
+            return;
+        }
+        CheckPolicy.Binding binding = CheckPolicy.currentBinding();
+        Budget budget = Budget.current();
+        Throwable failFast = null;
+        InterruptedException interrupted = null;
+        List<Future<Void>> futures = new ArrayList<>(checks.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ExecutorCompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            for (Runnable check : checks) {
+                futures.add(completion.submit(() -> {
+                    runBound(binding, budget, check);
+                    return null;
+                }));
+            }
+            try {
+                for (int i = 0; i < futures.size() && failFast == null; i++) {
+                    Throwable failure = failureOf(completion.take());
+                    if (failure != null && mode == Mode.FAIL_FAST) {
+                        failFast = failure;
+                        futures.forEach(f -> f.cancel(true));
+                    }
+                }
+            } catch (InterruptedException exe) {
+                // cancel the subtasks, so that close() does not wait for them to run to completion
+                interrupted = exe;
+                futures.forEach(f -> f.cancel(true));
+            }
+        }
+        if (interrupted != null) {
+            Thread.currentThread().interrupt();
+            throw new CheckFailedException("Interrupted while waiting for " + checks.size() + " concurrent checks", interrupted);
+        }
+        if (failFast != null) {
+            throw asUnchecked(failFast);
+        }
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Void> future : futures) {
+            Throwable failure = failureOf(future);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw collected(failures, checks.size());
+        }
+    }
+
+    /**
+     * Run "check" with "binding" and "budget" (either may be null), as
+     * captured on the thread that handed out the work.
+     */
+
+    static void runBound(CheckPolicy.Binding binding, Budget budget, Runnable check) {
+        if (budget == null) {
+            CheckPolicy.runIn(binding, check);
+        } else {
+            CheckPolicy.runIn(binding, () -> Budget.runWith(budget, check));
+        }
+    }
+
+    /**
+     * What the completed "future" threw, or null if it succeeded or was
+     * cancelled.
+     */
+
+    private static Throwable failureOf(Future<Void> future) {
+        try {
+            future.get();
+            return null;
+        } catch (CancellationException exe) {
+            return null;
+        } catch (ExecutionException exe) {
+            return exe.getCause();
+        } catch (InterruptedException exe) {
+            // cannot happen, the future is done
+            Thread.currentThread().interrupt();
+            return exe;
+        }
+    }
+
+    private static RuntimeException collected(List<Throwable> failures, int checkCount) {
+        Throwable first = failures.get(0);
+        for (Throwable failure : failures) {
+            if (failure instanceof Error) {
+                failures.stream().filter(f -> f != failure).forEach(failure::addSuppressed);
+                throw (Error) failure;
+            }
+        }
+        String msg = failures.size() + " of " + checkCount + " concurrent checks failed, the first one: " + first.getMessage();
+        CheckFailedException res = new CheckFailedException(msg);
+        failures.forEach(res::addSuppressed);
+        return res;
+    }
+
+    private static RuntimeException asUnchecked(Throwable t) {
+        if (t instanceof RuntimeException exe) {
+            return exe;
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return new CheckFailedException(t);
+    }
+}
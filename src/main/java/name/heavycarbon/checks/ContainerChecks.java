@@ -0,0 +1,664 @@
+package name.heavycarbon.checks;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Element-wise checks on the contents of containers: Collections, Maps and
+ * arrays (nested arrays included).
+ *
+ * Containers of at least PARALLEL_THRESHOLD elements are scanned with a
+ * parallel stream, i.e. split via their Spliterator across the common
+ * ForkJoinPool; smaller ones are scanned sequentially on the calling thread.
+ * The parallel scan only finds out whether there is a problem and stops
+ * early if so; locating the first offending index or key is then done
+ * sequentially, on the failure path only.
+ *
+ * All checks return the container, so that one can call them "inline".
+ *
+ *    import static name.heavycarbon.checks.ContainerChecks.*
+ *
+ *    List<Order> orders = checkNoNullElements(loadOrders(), "orders");
+ *    long[] stamps = checkSorted(loadStamps(), SortOrder.STRICTLY_ASCENDING, "stamps");
+ *    long[] ids = checkDistinct(loadIds(), "ids");
+ *
+ * Sortedness of large arrays and RandomAccess Lists is checked in parallel
+ * over chunks, each chunk also comparing its last element with the first
+ * one of the next chunk; the first violation in index order is reported.
+ *
+ * Distinctness of primitive arrays is checked with a "LongHashSet" instead of
+ * boxing into a HashSet<Long>. Large arrays are split by hash into
+ * partitions that are checked in parallel, each with its own set: one
+ * sequential pass hashes every value once and sorts the indexes by
+ * partition (5 bytes per element), then each partition task reads only its
+ * own share. There are enough partitions to keep each set well below
+ * LongHashSet.MAX_SIZE; a partition that gets too many distinct values all
+ * the same is split again, with another hash. The duplicate reported is the
+ * one whose second occurrence comes first.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Added checkSorted() and checkDistinct()
+ * 2026.10.19 - checkDistinct() hashes each value once and sizes partitions
+ *              within LongHashSet.MAX_SIZE
+ * 2026.10.19 - Nested arrays that contain themselves are scanned only once
+ ******************************************************************************/
+
+public class ContainerChecks {
+
+    /**
+     * From this many elements (of the top-level container) on, scans run in
+     * parallel.
+     */
+
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * For checkDistinct(): the number of values a partition is planned for,
+     * a quarter of what a LongHashSet can take, so that partitions that get
+     * more than their share by chance still fit.
+     */
+
+    static final int PARTITION_TARGET = LongHashSet.MAX_SIZE / 4;
+
+    private static final int MAX_PARTITIONS = 256;
+
+    private static final int MAX_SEED = 8;
+
+    /**
+     * The order checked by checkSorted(). Floating-point values are ordered
+     * as by Double.compare(): -0.0 before 0.0, NaN after everything else.
+     */
+
+    public enum SortOrder {
+
+        ASCENDING(1, 0, "ascending"),
+        STRICTLY_ASCENDING(1, -1, "strictly ascending"),
+        DESCENDING(-1, 0, "descending"),
+        STRICTLY_DESCENDING(-1, -1, "strictly descending");
+
+        // a pair (x, y) violates the order iff sign * compare(x, y) > bound
+
+        final int sign;
+        final int bound;
+        private final String text;
+
+        SortOrder(int sign, int bound, String text) {
+            this.sign = sign;
+            this.bound = bound;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    // ---
+    // No nulls
+    // ---
+
+    /**
+     * Check that the collection contains no null elements. The failure message
+     * gives the index of the first null (for a List, its index; otherwise the
+     * position in iteration order).
+     */
+
+    @SuppressWarnings("boxing")
+    public static <C extends Collection<?>> C checkNoNullElements(C coll, String name) {
+        BasicChecks.checkNotNull(coll, name);
+        if (containsNull(coll)) {
+            failOn(coll, name, "contains (null) at {} {}", (coll instanceof List) ? "index" : "iteration position", firstNullPosition(coll));
+        }
+        return coll;
+    }
+
+    /**
+     * Check that the array contains no null elements; arrays nested in it (of
+     * reference type) are checked in turn, each only once, so that an array
+     * that (indirectly) contains itself does not send the check round in
+     * circles. The failure message gives the path to the first null, e.g.
+     * "[3][17]".
+     */
+
+    public static <T> T[] checkNoNullElements(T[] array, String name) {
+        BasicChecks.checkNotNull(array, name);
+        boolean found;
+        if (array.length >= PARALLEL_THRESHOLD) {
+            found = Arrays.stream(array).parallel().anyMatch(elem -> isNullDeep(elem, array));
+        } else {
+            found = false;
+            for (Object elem : array) {
+                if (isNullDeep(elem, array)) {
+                    found = true;
+                    break;
+                }
+            }
+        }
+        if (found) {
+            StringBuilder path = new StringBuilder();
+            firstNullPath(array, path, newIdentitySet());
+            failOn(array, name, "contains (null) at {}", path);
+        }
+        return array;
+    }
+
+    /**
+     * Check that the map has no null values. The failure message gives the
+     * key of the first null value in iteration order.
+     */
+
+    public static <M extends Map<?, ?>> M checkNoNullValues(M map, String name) {
+        BasicChecks.checkNotNull(map, name);
+        if (containsNull(map.values())) {
+            Object key = null;
+            boolean located = false;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getValue() == null) {
+                    key = entry.getKey();
+                    located = true;
+                    break;
+                }
+            }
+            if (located) {
+                failOn(map, name, "has a (null) value for key '{}'", key);
+            } else {
+                failOn(map, name, "has a (null) value (key not found anymore, concurrent modification?)");
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Check that the map has no null key. Does not use containsKey(null),
+     * which some maps refuse.
+     */
+
+    public static <M extends Map<?, ?>> M checkNoNullKeys(M map, String name) {
+        BasicChecks.checkNotNull(map, name);
+        if (containsNull(map.keySet())) {
+            failOn(map, name, "has a (null) key");
+        }
+        return map;
+    }
+
+    // ---
+    // Sorted
+    // ---
+
+    @SuppressWarnings("boxing")
+    public static int[] checkSorted(int[] array, SortOrder order, String name) {
+        BasicChecks.checkNotNull(array, name);
+        BasicChecks.checkNotNull(order, "order");
+        int at = firstUnsorted(array.length, (from, to) -> firstUnsorted(array, from, to, order));
+        if (at >= 0) {
+            failOn(array, name, "is not sorted {}: [{}] = {} is followed by [{}] = {}", order, at, array[at], at + 1, array[at + 1]);
+        }
+        return array;
+    }
+
+    @SuppressWarnings("boxing")
+    public static long[] checkSorted(long[] array, SortOrder order, String name) {
+        BasicChecks.checkNotNull(array, name);
+        BasicChecks.checkNotNull(order, "order");
+        int at = firstUnsorted(array.length, (from, to) -> firstUnsorted(array, from, to, order));
+        if (at >= 0) {
+            failOn(array, name, "is not sorted {}: [{}] = {} is followed by [{}] = {}", order, at, array[at], at + 1, array[at + 1]);
+        }
+        return array;
+    }
+
+    @SuppressWarnings("boxing")
+    public static double[] checkSorted(double[] array, SortOrder order, String name) {
+        BasicChecks.checkNotNull(array, name);
+        BasicChecks.checkNotNull(order, "order");
+        int at = firstUnsorted(array.length, (from, to) -> firstUnsorted(array, from, to, order));
+        if (at >= 0) {
+            failOn(array, name, "is not sorted {}: [{}] = {} is followed by [{}] = {}", order, at, array[at], at + 1, array[at + 1]);
+        }
+        return array;
+    }
+
+    /**
+     * Check that the list is sorted in their natural order; null elements
+     * fail. Only RandomAccess lists are checked in parallel.
+     */
+
+    @SuppressWarnings("boxing")
+    public static <T extends Comparable<? super T>, L extends List<T>> L checkSorted(L list, SortOrder order, String name) {
+        BasicChecks.checkNotNull(list, name);
+        BasicChecks.checkNotNull(order, "order");
+        int at;
+        if (list instanceof RandomAccess) {
+            at = firstUnsorted(list.size(), (from, to) -> firstUnsorted(list, from, to, order));
+        } else {
+            at = firstUnsorted(list.iterator(), order);
+        }
+        if (at >= 0) {
+            failOn(list, name, "is not sorted {}: [{}] = {} is followed by [{}] = {}", order, at, list.get(at), at + 1, list.get(at + 1));
+        }
+        return list;
+    }
+
+    public static int[] checkSorted(int[] array, SortOrder order) {
+        return checkSorted(array, order, null);
+    }
+
+    public static long[] checkSorted(long[] array, SortOrder order) {
+        return checkSorted(array, order, null);
+    }
+
+    public static double[] checkSorted(double[] array, SortOrder order) {
+        return checkSorted(array, order, null);
+    }
+
+    public static <T extends Comparable<? super T>, L extends List<T>> L checkSorted(L list, SortOrder order) {
+        return checkSorted(list, order, null);
+    }
+
+    // ---
+    // Distinct
+    // ---
+
+    @SuppressWarnings("boxing")
+    public static int[] checkDistinct(int[] array, String name) {
+        BasicChecks.checkNotNull(array, name);
+        int at = firstRepeat(array.length, i -> array[i]);
+        if (at >= 0) {
+            int value = array[at];
+            failOn(array, name, "contains {} more than once, at [{}] and [{}]", value, firstIndexOf(at, i -> array[i] == value), at);
+        }
+        return array;
+    }
+
+    @SuppressWarnings("boxing")
+    public static long[] checkDistinct(long[] array, String name) {
+        BasicChecks.checkNotNull(array, name);
+        int at = firstRepeat(array.length, i -> array[i]);
+        if (at >= 0) {
+            long value = array[at];
+            failOn(array, name, "contains {} more than once, at [{}] and [{}]", value, firstIndexOf(at, i -> array[i] == value), at);
+        }
+        return array;
+    }
+
+    /**
+     * Values are distinct by their bits, as for Double.equals(): NaN repeats
+     * NaN, but 0.0 and -0.0 are distinct.
+     */
+
+    @SuppressWarnings("boxing")
+    public static double[] checkDistinct(double[] array, String name) {
+        BasicChecks.checkNotNull(array, name);
+        int at = firstRepeat(array.length, i -> Double.doubleToLongBits(array[i]));
+        if (at >= 0) {
+            long bits = Double.doubleToLongBits(array[at]);
+            failOn(array, name, "contains {} more than once, at [{}] and [{}]", array[at],
+                    firstIndexOf(at, i -> Double.doubleToLongBits(array[i]) == bits), at);
+        }
+        return array;
+    }
+
+    /**
+     * Check that no two elements of the list are equal(). The elements are
+     * already objects, so a HashSet is used; large lists are checked with a
+     * parallel stream into a concurrent set.
+     */
+
+    @SuppressWarnings("boxing")
+    public static <L extends List<?>> L checkDistinct(L list, String name) {
+        BasicChecks.checkNotNull(list, name);
+        boolean repeated;
+        if (list.size() >= PARALLEL_THRESHOLD) {
+            Set<Object> seen = ConcurrentHashMap.newKeySet(list.size());
+            repeated = list.parallelStream().map(elem -> (elem == null) ? NULL_ELEMENT : elem).anyMatch(elem -> !seen.add(elem));
+        } else {
+            repeated = false;
+            Set<Object> seen = new HashSet<>();
+            for (Object elem : list) {
+                if (!seen.add((elem == null) ? NULL_ELEMENT : elem)) {
+                    repeated = true;
+                    break;
+                }
+            }
+        }
+        if (repeated) {
+            // locate on the failure path only, sequentially
+            Map<Object, Integer> firstSeen = new HashMap<>();
+            int i = 0;
+            for (Object elem : list) {
+                Integer first = firstSeen.putIfAbsent(elem, i);
+                if (first != null) {
+                    failOn(list, name, "contains {} more than once, at [{}] and [{}]", elem, first, i);
+                    break;
+                }
+                i++;
+            }
+        }
+        return list;
+    }
+
+    public static int[] checkDistinct(int[] array) {
+        return checkDistinct(array, null);
+    }
+
+    public static long[] checkDistinct(long[] array) {
+        return checkDistinct(array, null);
+    }
+
+    public static double[] checkDistinct(double[] array) {
+        return checkDistinct(array, null);
+    }
+
+    public static <L extends List<?>> L checkDistinct(L list) {
+        return checkDistinct(list, null);
+    }
+
+    /**
+     * Stands in for null in the sets of checkDistinct(List), as
+     * ConcurrentHashMap does not take null.
+     */
+
+    private static final Object NULL_ELEMENT = new Object();
+
+    @FunctionalInterface
+    private interface RangeScan {
+        int firstUnsorted(int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface IndexTest {
+        boolean test(int index);
+    }
+
+    /**
+     * The first index "i" such that the pair (i, i + 1) violates the order,
+     * or -1. Large inputs are scanned as chunks in parallel; each chunk
+     * checks the pairs starting in it, hence also the pair crossing into the
+     * next chunk.
+     */
+
+    private static int firstUnsorted(int length, RangeScan scan) {
+        if (length < PARALLEL_THRESHOLD) {
+            return scan.firstUnsorted(0, length);
+        }
+        int chunkSize = Math.max(PARALLEL_THRESHOLD / 4, length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        int chunks = (length + chunkSize - 1) / chunkSize;
+        OptionalInt res = IntStream.range(0, chunks).parallel()
+                .map(c -> scan.firstUnsorted(c * chunkSize, (int) Math.min(length, (long) c * chunkSize + chunkSize)))
+                .filter(i -> i >= 0)
+                .findFirst();
+        return res.orElse(-1);
+    }
+
+    private static int firstUnsorted(int[] array, int from, int to, SortOrder order) {
+        int end = Math.min(to, array.length - 1);
+        for (int i = from; i < end; i++) {
+            if (order.sign * Integer.compare(array[i], array[i + 1]) > order.bound) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int firstUnsorted(long[] array, int from, int to, SortOrder order) {
+        int end = Math.min(to, array.length - 1);
+        for (int i = from; i < end; i++) {
+            if (order.sign * Long.compare(array[i], array[i + 1]) > order.bound) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int firstUnsorted(double[] array, int from, int to, SortOrder order) {
+        int end = Math.min(to, array.length - 1);
+        for (int i = from; i < end; i++) {
+            if (order.sign * Double.compare(array[i], array[i + 1]) > order.bound) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T extends Comparable<? super T>> int firstUnsorted(List<T> list, int from, int to, SortOrder order) {
+        int end = Math.min(to, list.size() - 1);
+        for (int i = from; i < end; i++) {
+            if (isUnsorted(list.get(i), list.get(i + 1), order)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T extends Comparable<? super T>> int firstUnsorted(Iterator<T> iter, SortOrder order) {
+        if (!iter.hasNext()) {
+            return -1;
+        }
+        T prev = iter.next();
+        for (int i = 0; iter.hasNext(); i++) {
+            T cur = iter.next();
+            if (isUnsorted(prev, cur, order)) {
+                return i;
+            }
+            prev = cur;
+        }
+        return -1;
+    }
+
+    private static <T extends Comparable<? super T>> boolean isUnsorted(T x, T y, SortOrder order) {
+        // null is not comparable; treat it as a violation
+        return x == null || y == null || order.sign * Integer.signum(x.compareTo(y)) > order.bound;
+    }
+
+    /**
+     * The smallest index at which some value occurs for the second time, or
+     * -1; "keyAt" gives the value at an index. Large inputs are split into
+     * partitions by hash, checked in parallel; the smallest result over the
+     * partitions is the overall one.
+     */
+
+    private static int firstRepeat(int length, IntToLongFunction keyAt) {
+        int partitions = 1;
+        if (length >= PARALLEL_THRESHOLD) {
+            partitions = (int) Math.min(MAX_PARTITIONS,
+                    Math.max(ForkJoinPool.getCommonPoolParallelism(), ((long) length + PARTITION_TARGET - 1) / PARTITION_TARGET));
+        }
+        return firstRepeat(length, keyAt, partitions);
+    }
+
+    static int firstRepeat(int length, IntToLongFunction keyAt, int partitions) {
+        if (partitions == 1) {
+            return firstRepeatIn(keyAt, null, 0, length, 0);
+        }
+        return firstRepeatSplit(keyAt, null, 0, length, partitions, 0);
+    }
+
+    /**
+     * Sort the indexes in [from,to[ (all of them if "indexes" is null) by the
+     * partitions of their values under hash "seed", keeping them ascending
+     * within a partition, and check the partitions in parallel.
+     */
+
+    private static int firstRepeatSplit(IntToLongFunction keyAt, int[] indexes, int from, int to, int partitions, int seed) {
+        byte[] partitionOf = new byte[to - from];
+        int[] starts = new int[partitions + 1];
+        for (int k = from; k < to; k++) {
+            int partition = partitionOf(keyAt.applyAsLong((indexes == null) ? k : indexes[k]), partitions, seed);
+            partitionOf[k - from] = (byte) partition;
+            starts[partition + 1]++;
+        }
+        for (int p = 0; p < partitions; p++) {
+            starts[p + 1] += starts[p];
+        }
+        int[] sorted = new int[to - from];
+        int[] next = Arrays.copyOf(starts, partitions);
+        for (int k = from; k < to; k++) {
+            sorted[next[partitionOf[k - from] & 0xff]++] = (indexes == null) ? k : indexes[k];
+        }
+        return IntStream.range(0, partitions).parallel()
+                .map(p -> firstRepeatIn(keyAt, sorted, starts[p], starts[p + 1], seed))
+                .filter(i -> i >= 0)
+                .min()
+                .orElse(-1);
+    }
+
+    /**
+     * The first repeat among the (ascending) indexes in [from,to[, or all of
+     * [from,to[ if "indexes" is null. If there are more distinct values than
+     * a LongHashSet can take, the range is split again with the next hash.
+     */
+
+    @SuppressWarnings("boxing")
+    private static int firstRepeatIn(IntToLongFunction keyAt, int[] indexes, int from, int to, int seed) {
+        LongHashSet set = new LongHashSet(Math.min(to - from, LongHashSet.MAX_SIZE));
+        for (int k = from; k < to; k++) {
+            int i = (indexes == null) ? k : indexes[k];
+            long key = keyAt.applyAsLong(i);
+            if (set.size() >= LongHashSet.MAX_SIZE && !set.contains(key)) {
+                BasicChecks.checkTrueOrThrow(seed < MAX_SEED, "Cannot split {} values into partitions of at most {}",
+                        to - from, LongHashSet.MAX_SIZE);
+                int partitions = (int) Math.min(MAX_PARTITIONS, (to - from + (long) PARTITION_TARGET - 1) / PARTITION_TARGET + 1);
+                return firstRepeatSplit(keyAt, indexes, from, to, partitions, seed + 1);
+            }
+            if (!set.add(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The partition of "value" under hash "seed"; uses the high bits of the
+     * hash, while LongHashSet uses the low ones for the slot.
+     */
+
+    private static int partitionOf(long value, int partitions, int seed) {
+        return (int) (((LongHashSet.mix(value + seed * 0x9e3779b97f4a7c15L) >>> 32) * partitions) >>> 32);
+    }
+
+    private static int firstIndexOf(int before, IndexTest test) {
+        for (int i = 0; i < before; i++) {
+            if (test.test(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether "elem", an element of "top", is null or an array that contains
+     * a null, however deeply nested. Arrays already seen ("top" included) are
+     * skipped: they are checked where they were first met.
+     */
+
+    private static boolean isNullDeep(Object elem, Object[] top) {
+        if (elem == null) {
+            return true;
+        }
+        if (elem instanceof Object[] nested && nested != top) {
+            Set<Object[]> seen = newIdentitySet();
+            seen.add(top);
+            return containsNullDeep(nested, seen);
+        }
+        return false;
+    }
+
+    private static boolean containsNullDeep(Object[] array, Set<Object[]> seen) {
+        if (!seen.add(array)) {
+            return false;
+        }
+        for (Object inner : array) {
+            if (inner == null || (inner instanceof Object[] nested && containsNullDeep(nested, seen))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean firstNullPath(Object[] array, StringBuilder path, Set<Object[]> seen) {
+        if (!seen.add(array)) {
+            return false;
+        }
+        for (int i = 0; i < array.length; i++) {
+            int mark = path.length();
+            path.append('[').append(i).append(']');
+            if (array[i] == null || (array[i] instanceof Object[] nested && firstNullPath(nested, path, seen))) {
+                return true;
+            }
+            path.setLength(mark);
+        }
+        return false;
+    }
+
+    private static Set<Object[]> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static boolean containsNull(Collection<?> coll) {
+        if (coll.size() >= PARALLEL_THRESHOLD) {
+            return coll.parallelStream().anyMatch(Objects::isNull);
+        }
+        if (coll instanceof List<?> list && list instanceof RandomAccess) {
+            for (int i = 0, n = list.size(); i < n; i++) {
+                if (list.get(i) == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (Object elem : coll) {
+            if (elem == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only called on failure; -1 if the null has disappeared meanwhile.
+     */
+
+    private static long firstNullPosition(Collection<?> coll) {
+        long pos = 0;
+        Iterator<?> iter = coll.iterator();
+        while (iter.hasNext()) {
+            if (iter.next() == null) {
+                return pos;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    /**
+     * Helper, only called on failure. Prefixes "txt" with a description of
+     * the container.
+     */
+
+    private static void failOn(Object container, String name, String txt, Object... args) {
+        String prefix;
+        if (name == null) {
+            prefix = "The unnamed " + container.getClass().getTypeName() + " ";
+        } else {
+            prefix = "The " + container.getClass().getTypeName() + " '" + name + "' ";
+        }
+        BasicChecks.checkFailed(prefix + txt, args);
+    }
+}
@@ -0,0 +1,113 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Checkpoints against a latency "Budget". Placed at well-defined points of a
+ * request handler, they cut off slow requests by throwing a
+ * "DeadlineExceededException" (a "CheckFailedException") that carries the
+ * elapsed and the remaining time.
+ *
+ * Each check reads the budget's clock exactly once. Checks that take no
+ * budget use the one bound with Budget.runWith()/callWith() and pass if
+ * there is none.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - checkRemainingAtLeast() says what it needed
+ ******************************************************************************/
+
+public class DeadlineChecks {
+
+    /**
+     * Check against the budget bound to the current thread, if any.
+     */
+
+    public static void checkWithinDeadline() {
+        checkWithinDeadline(Budget.current(), null);
+    }
+
+    public static void checkWithinDeadline(String checkpoint) {
+        checkWithinDeadline(Budget.current(), checkpoint);
+    }
+
+    /**
+     * Check against "budget"; passing null means "no budget", which passes.
+     * The remaining time is returned.
+     */
+
+    public static long checkWithinDeadline(Budget budget) {
+        return checkWithinDeadline(budget, null);
+    }
+
+    public static long checkWithinDeadline(Budget budget, String checkpoint) {
+        if (budget == null) {
+            return Long.MAX_VALUE;
+        }
+        long now = budget.getClock().nanoTime();
+        long remaining = budget.getDeadlineNanos() - now;
+        if (remaining <= 0) {
+            throw deadlineExceeded(budget, checkpoint, now - budget.getStartNanos(), remaining);
+        }
+        return remaining;
+    }
+
+    /**
+     * Check that at least "neededNanos" remain in "budget", e.g. before
+     * starting an operation known to take that long. The remaining time is
+     * returned. On failure, the DeadlineExceededException may carry a
+     * positive remaining time: the deadline is not yet past, only too close.
+     */
+
+    public static long checkRemainingAtLeast(Budget budget, long neededNanos, String checkpoint) {
+        if (budget == null) {
+            return Long.MAX_VALUE;
+        }
+        long now = budget.getClock().nanoTime();
+        long remaining = budget.getDeadlineNanos() - now;
+        if (remaining < neededNanos) {
+            throw notEnoughRemaining(budget, checkpoint, now - budget.getStartNanos(), remaining, neededNanos);
+        }
+        return remaining;
+    }
+
+    /**
+     * Helper, only called on failure
+     */
+
+    @SuppressWarnings("boxing")
+    private static DeadlineExceededException deadlineExceeded(Budget budget, String checkpoint, long elapsed, long remaining) {
+        String txt;
+        Object[] args;
+        if (checkpoint == null) {
+            txt = "Latency budget of {} ns exceeded: elapsed {} ns, remaining {} ns";
+            args = new Object[]{budget.getLimitNanos(), elapsed, remaining};
+        } else {
+            txt = "Latency budget of {} ns exceeded at checkpoint '{}': elapsed {} ns, remaining {} ns";
+            args = new Object[]{budget.getLimitNanos(), checkpoint, elapsed, remaining};
+        }
+        return noted(txt, args, elapsed, remaining);
+    }
+
+    /**
+     * Helper, only called on failure
+     */
+
+    @SuppressWarnings("boxing")
+    private static DeadlineExceededException notEnoughRemaining(Budget budget, String checkpoint, long elapsed, long remaining, long needed) {
+        String txt;
+        Object[] args;
+        if (checkpoint == null) {
+            txt = "Latency budget of {} ns too short: needs {} ns but only {} ns remain (elapsed {} ns)";
+            args = new Object[]{budget.getLimitNanos(), needed, remaining, elapsed};
+        } else {
+            txt = "Latency budget of {} ns too short at checkpoint '{}': needs {} ns but only {} ns remain (elapsed {} ns)";
+            args = new Object[]{budget.getLimitNanos(), checkpoint, needed, remaining, elapsed};
+        }
+        return noted(txt, args, elapsed, remaining);
+    }
+
+    private static DeadlineExceededException noted(String txt, Object[] args, long elapsed, long remaining) {
+        String msg = Formatter.formatForMe(txt, args);
+        Failures.note(FailureRecorder.Kind.DEADLINE, DeadlineExceededException.class, txt, args, msg);
+        return new DeadlineExceededException(msg, elapsed, remaining);
+    }
+}
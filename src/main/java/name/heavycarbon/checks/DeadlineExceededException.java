@@ -0,0 +1,35 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Thrown by the deadline checks when a "Budget" has been used up, or does
+ * not have enough time left. Carries the time elapsed since the budget was
+ * started and the remaining time at the moment of the check: zero or
+ * negative (the amount of overrun) if the deadline has passed, positive if
+ * DeadlineChecks.checkRemainingAtLeast() needed more than remained.
+ *
+ * 2026.10.19 - Created for the latency-budget checks
+ * 2026.10.19 - Also thrown if not enough time remains
+ ******************************************************************************/
+
+@SuppressWarnings("serial")
+public class DeadlineExceededException extends CheckFailedException {
+
+    private final long elapsedNanos;
+    private final long remainingNanos;
+
+    public DeadlineExceededException(String message, long elapsedNanos, long remainingNanos) {
+        super(message);
+        this.elapsedNanos = elapsedNanos;
+        this.remainingNanos = remainingNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getRemainingNanos() {
+        return remainingNanos;
+    }
+
+}
@@ -0,0 +1,388 @@
+package name.heavycarbon.checks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Validation of a whole object graph: BasicChecks.validateIt() is called on
+ * every node reachable from the root that has a "validate()" method, so that
+ * aggregates no longer have to validate their parts by hand.
+ *
+ *    DeepValidation.validateDeep(order); // the order, its lines, their products...
+ *
+ * The walk descends into
+ *
+ * - the non-static, reference-typed fields of objects that have a
+ *   "validate()" method (fields of superclasses included, synthetic ones
+ *   such as the outer instance excluded);
+ * - the elements of Collections and of arrays of reference type;
+ * - the keys and values of Maps.
+ *
+ * Other objects (Strings, boxed numbers, objects without "validate()") are
+ * leaves and are not looked into. Every node is visited once, by identity,
+ * so shared subgraphs are validated once and cycles terminate.
+ *
+ * Fields are read through VarHandles that are looked up once per class and
+ * cached in a ClassValue. Fields of classes in modules that are not open to
+ * this one cannot be read; such classes are validated but not descended into.
+ *
+ * Collections, Maps and arrays of at least PARALLEL_THRESHOLD elements are
+ * split into ForkJoin subtasks on the common pool; the "CheckPolicy" and the
+ * "Budget" of the calling thread are bound in the subtasks, too. After the
+ * first failure, the remaining subtasks stop early.
+ *
+ * A failure is reported as a CheckFailedException naming the path from the
+ * root to the failing node, e.g. "root.lines[3].product", with the original
+ * failure as cause. If the graph is deeper than the depth limit, that is a
+ * failure, too, rather than part of the graph silently going unvalidated.
+ * Which failure is reported when several nodes fail is only deterministic
+ * for graphs that are walked sequentially.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - Failures go through BasicChecks.checkFailed()
+ ******************************************************************************/
+
+public class DeepValidation {
+
+    /**
+     * Containers of at least this many elements are walked in parallel.
+     */
+
+    public static final int PARALLEL_THRESHOLD = 1024;
+
+    /**
+     * The depth limit used by validateDeep(Object); the root has depth 0.
+     */
+
+    public static final int DEFAULT_MAX_DEPTH = 64;
+
+    /**
+     * What is known about a class: whether it has "validate()" and the
+     * accessors of the fields to descend into.
+     */
+
+    private static final class NodeType {
+
+        final boolean validatable;
+        final VarHandle[] handles;
+        final String[] names;
+
+        NodeType(boolean validatable, VarHandle[] handles, String[] names) {
+            this.validatable = validatable;
+            this.handles = handles;
+            this.names = names;
+        }
+    }
+
+    private static final NodeType LEAF = new NodeType(false, new VarHandle[0], new String[0]);
+
+    private static final ClassValue<NodeType> nodeTypes = new ClassValue<>() {
+        @Override
+        protected NodeType computeValue(Class<?> clazz) {
+            return nodeTypeOf(clazz);
+        }
+    };
+
+    /**
+     * A step on the way from the root, rendered only on failure.
+     */
+
+    private record Path(Path parent, String field, Object key, int index) {
+
+        Path field(String name) {
+            return new Path(this, name, null, -1);
+        }
+
+        Path index(int i) {
+            return new Path(this, null, null, i);
+        }
+
+        Path key(Object k) {
+            return new Path(this, null, (k == null) ? "(null)" : k, -1);
+        }
+
+        Path keyAt(int i) {
+            return new Path(this, "keys", null, i);
+        }
+
+        void render(StringBuilder buf) {
+            if (parent == null) {
+                buf.append("root");
+                return;
+            }
+            parent.render(buf);
+            if (field != null) {
+                buf.append('.').append(field);
+            }
+            if (key != null) {
+                buf.append("['").append(ArgRenderer.render(key, Formatter.getRenderPolicy())).append("']");
+            }
+            if (index >= 0) {
+                buf.append('[').append(index).append(']');
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder();
+            render(buf);
+            return buf.toString();
+        }
+    }
+
+    private static final Path ROOT = new Path(null, null, null, -1);
+
+    /**
+     * The state of one walk, shared by its subtasks.
+     */
+
+    private static final class Walk {
+
+        final int maxDepth;
+        final Set<Object> visited = ConcurrentHashMap.newKeySet();
+        final AtomicReference<Failure> failure = new AtomicReference<>();
+        final CheckPolicy.Binding binding = CheckPolicy.currentBinding();
+        final Budget budget = Budget.current();
+
+        Walk(int maxDepth) {
+            this.maxDepth = maxDepth;
+        }
+
+        boolean firstVisit(Object node) {
+            return visited.add(new IdentityKey(node));
+        }
+
+        boolean failed() {
+            return failure.get() != null;
+        }
+    }
+
+    private record Failure(Path path, Throwable cause, int depth) {
+    }
+
+    /**
+     * Wraps a node so that the visited set goes by identity.
+     */
+
+    private static final class IdentityKey {
+
+        private final Object obj;
+        private final int hash;
+
+        IdentityKey(Object obj) {
+            this.obj = obj;
+            this.hash = System.identityHashCode(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey key && key.obj == obj;
+        }
+    }
+
+    /**
+     * Validate the graph reachable from "root", down to DEFAULT_MAX_DEPTH.
+     * Returns "root".
+     */
+
+    public static <T> T validateDeep(T root) {
+        return validateDeep(root, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Validate the graph reachable from "root", down to "maxDepth". Returns
+     * "root".
+     */
+
+    @SuppressWarnings("boxing")
+    public static <T> T validateDeep(T root, int maxDepth) {
+        BasicChecks.checkNotNull(root, "root");
+        BasicChecks.checkTrueOrThrow(maxDepth >= 0, "The 'maxDepth' is less than 0: {}", maxDepth);
+        Walk walk = new Walk(maxDepth);
+        visit(walk, root, ROOT, 0);
+        Failure failure = walk.failure.get();
+        if (failure != null) {
+            if (failure.cause == null) {
+                BasicChecks.checkFailed("Deep validation stopped at '{}': the graph is deeper than the limit of {}", failure.path, failure.depth);
+            } else {
+                BasicChecks.checkFailed(failure.cause, "Deep validation failed at '{}': {}", failure.path, failure.cause.getMessage());
+            }
+        }
+        return root;
+    }
+
+    private static void visit(Walk walk, Object node, Path path, int depth) {
+        if (walk.failed() || !walk.firstVisit(node)) {
+            return;
+        }
+        if (depth > walk.maxDepth) {
+            walk.failure.compareAndSet(null, new Failure(path, null, walk.maxDepth));
+            return;
+        }
+        if (node instanceof Collection<?> coll) {
+            visitElements(walk, coll.toArray(), path, depth, false);
+        } else if (node instanceof Map<?, ?> map) {
+            visitMap(walk, map, path, depth);
+        } else if (node instanceof Object[] array) {
+            visitElements(walk, array, path, depth, false);
+        } else {
+            NodeType type = nodeTypes.get(node.getClass());
+            if (type.validatable) {
+                try {
+                    BasicChecks.validateIt(node);
+                } catch (RuntimeException | Error t) {
+                    walk.failure.compareAndSet(null, new Failure(path, t, depth));
+                    return;
+                }
+                for (int i = 0; i < type.handles.length && !walk.failed(); i++) {
+                    Object child = type.handles[i].get(node);
+                    if (isWalkable(child)) {
+                        visit(walk, child, path.field(type.names[i]), depth + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void visitMap(Walk walk, Map<?, ?> map, Path path, int depth) {
+        // a snapshot, so that keys can be named and big maps split
+        List<Object> keys = new ArrayList<>(map.size());
+        List<Object> values = new ArrayList<>(map.size());
+        map.forEach((k, v) -> {
+            keys.add(k);
+            values.add(v);
+        });
+        Object[] keyArray = keys.toArray();
+        visitElements(walk, keyArray, path, depth, true);
+        Object[] valueArray = values.toArray();
+        if (valueArray.length >= PARALLEL_THRESHOLD) {
+            new Chunk(walk, valueArray, keyArray, 0, valueArray.length, path, depth).invoke();
+        } else {
+            visitRange(walk, valueArray, keyArray, 0, valueArray.length, path, depth);
+        }
+    }
+
+    /**
+     * Visit the elements of a Collection or array, or the keys of a Map.
+     */
+
+    private static void visitElements(Walk walk, Object[] elems, Path path, int depth, boolean mapKeys) {
+        if (elems.length >= PARALLEL_THRESHOLD) {
+            new Chunk(walk, elems, mapKeys ? Chunk.MAP_KEYS : null, 0, elems.length, path, depth).invoke();
+        } else {
+            visitRange(walk, elems, mapKeys ? Chunk.MAP_KEYS : null, 0, elems.length, path, depth);
+        }
+    }
+
+    /**
+     * Visit elems[from, to). "keys" names the elements: null for indexes,
+     * Chunk.MAP_KEYS for the keys of a Map, else the keys of the values.
+     */
+
+    private static void visitRange(Walk walk, Object[] elems, Object[] keys, int from, int to, Path path, int depth) {
+        for (int i = from; i < to && !walk.failed(); i++) {
+            Object elem = elems[i];
+            if (isWalkable(elem)) {
+                Path elemPath;
+                if (keys == null) {
+                    elemPath = path.index(i);
+                } else if (keys == Chunk.MAP_KEYS) {
+                    elemPath = path.keyAt(i);
+                } else {
+                    elemPath = path.key(keys[i]);
+                }
+                visit(walk, elem, elemPath, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * A range of elements, split in halves down to PARALLEL_THRESHOLD.
+     */
+
+    @SuppressWarnings("serial")
+    private static final class Chunk extends RecursiveAction {
+
+        static final Object[] MAP_KEYS = new Object[0];
+
+        private final Walk walk;
+        private final Object[] elems;
+        private final Object[] keys;
+        private final int from;
+        private final int to;
+        private final Path path;
+        private final int depth;
+
+        Chunk(Walk walk, Object[] elems, Object[] keys, int from, int to, Path path, int depth) {
+            this.walk = walk;
+            this.elems = elems;
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.path = path;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (walk.failed()) {
+                return;
+            }
+            if (to - from <= PARALLEL_THRESHOLD) {
+                ConcurrentChecks.runBound(walk.binding, walk.budget, () -> visitRange(walk, elems, keys, from, to, path, depth));
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Chunk(walk, elems, keys, from, mid, path, depth), new Chunk(walk, elems, keys, mid, to, path, depth));
+            }
+        }
+    }
+
+    private static boolean isWalkable(Object obj) {
+        return obj instanceof Collection || obj instanceof Map || obj instanceof Object[] || (obj != null && nodeTypes.get(obj.getClass()).validatable);
+    }
+
+    private static NodeType nodeTypeOf(Class<?> clazz) {
+        try {
+            clazz.getMethod("validate", (Class<?>[]) null);
+        } catch (NoSuchMethodException exe) {
+            return LEAF;
+        }
+        List<VarHandle> handles = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                if (c != clazz) {
+                    lookup = MethodHandles.privateLookupIn(c, MethodHandles.lookup());
+                }
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && !field.getType().isPrimitive()) {
+                        handles.add(lookup.unreflectVarHandle(field));
+                        names.add(field.getName());
+                    }
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException exe) {
+            // not open to us (InaccessibleObjectException is a RuntimeException); validate, do not descend
+            return new NodeType(true, new VarHandle[0], new String[0]);
+        }
+        return new NodeType(true, handles.toArray(new VarHandle[0]), names.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,430 @@
+package name.heavycarbon.checks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Flags duplicate keys in an unbounded stream of records in bounded memory,
+ * without keeping every key as a HashSet would. Create one detector per
+ * stream:
+ *
+ *    DuplicateDetector orderIds = DuplicateDetector.forKeys("order ids", 100_000_000L, 0.01, 65536);
+ *    ...
+ *    orderIds.checkUnique(record.getOrderId());
+ *
+ * How it works
+ * ------------
+ *
+ * Each key goes into a Bloom filter held off-heap, in a direct ByteBuffer
+ * (so a filter of a few GB does not weigh on the heap or the GC). If all of
+ * the key's bits were set already, the key has "maybe" been seen before, and
+ * the exact window, which holds the last "window" keys, is asked:
+ *
+ * - if the key is in the window, it is a duplicate for sure, and checkUnique()
+ *   fails with a CheckFailedException (through BasicChecks.checkFailed(), so
+ *   the current "CheckPolicy" applies), giving the key and how many keys ago
+ *   it was seen;
+ * - otherwise the key is only "suspected": it is either a duplicate that is
+ *   farther back than the window or a false positive of the filter. Suspects
+ *   are counted (getSuspectedCount()) but do not fail.
+ *
+ * So a failure is never a false alarm, but duplicates farther apart than the
+ * window can only be seen statistically, as an excess of suspects over
+ * getFalsePositiveRate() * getKeyCount().
+ *
+ * byte[] keys are reduced to a 64-bit hash first; two different byte[] keys
+ * with the same hash count as duplicates (with probability about
+ * window / 2^64 per key). long keys are exact.
+ *
+ * False-positive rate
+ * -------------------
+ *
+ * The filter is a "split block" Bloom filter: a key selects one 64-byte
+ * block (a cache line) and sets one bit in each of its 8 longs, so a key
+ * costs one cache miss and 8 branch-free read-modify-writes. With n keys in
+ * B blocks, the number of keys j that landed in the block of a new key is
+ * Poisson-distributed with mean n / B, and the key is taken for a "maybe"
+ * with probability
+ *
+ *    sum over j of Poisson(j; n / B) * (1 - (63/64)^j)^8
+ *
+ * which is somewhat above the (1 - e^(-8n/m))^8 of a classic Bloom filter of
+ * m bits with 8 bits per key, as blocks do not fill evenly. forKeys() picks
+ * the smallest B for which this is at most the rate p at the expected number
+ * of keys N: about 10 bits per key for 1%. Below N keys the rate stays under
+ * p; above, it grows (twice N gives about 17% for 1%).
+ * getFalsePositiveRate() evaluates it for the keys inserted so far;
+ * "TestDuplicateDetector" measures it.
+ *
+ * The cost of a key is dominated by the one cache miss into the filter once
+ * the filter is larger than the caches; with a filter that fits into them
+ * it is a few tens of nanoseconds. "TestDuplicateDetectorPerformance" prints
+ * the rate for a filter of about 120 MB.
+ *
+ * Not thread-safe; one detector per stream (or per partition of a stream).
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - The rate is computed without underflow for over-filled filters
+ ******************************************************************************/
+
+public final class DuplicateDetector {
+
+    private static final int BLOCK_BITS = 512; // one cache line
+    private static final int BLOCK_BYTES = BLOCK_BITS / 8;
+    private static final int BITS_PER_KEY = 8; // one per long of the block
+
+    /**
+     * With this many keys per block on average, (1 - (63/64)^j)^8 is 1 in
+     * double precision across the whole Poisson window.
+     */
+
+    static final double SATURATED_KEYS_PER_BLOCK = 4096;
+
+    /**
+     * The largest filter, as direct buffers are int-indexed.
+     */
+
+    public static final long MAX_FILTER_BYTES = (Integer.MAX_VALUE / BLOCK_BYTES) * (long) BLOCK_BYTES;
+
+    /**
+     * The lowest false-positive rate forKeys() accepts.
+     */
+
+    public static final double MIN_RATE = 1e-9;
+
+    private static final VarHandle LONGS_OF_BYTES = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final String name;
+    private final ByteBuffer filter;
+    private final int blockCount;
+    private final Window window;
+
+    private long keyCount;
+    private long suspectedCount;
+    private long duplicateCount;
+    private long lastDistance; // of the last confirmed duplicate, for the message
+
+    private DuplicateDetector(String name, long filterBytes, int windowSize) {
+        this.name = name;
+        this.blockCount = (int) (filterBytes / BLOCK_BYTES);
+        this.filter = ByteBuffer.allocateDirect(blockCount * BLOCK_BYTES).order(ByteOrder.nativeOrder());
+        this.window = new Window(windowSize);
+    }
+
+    /**
+     * A detector sized for "expectedKeys" keys at a false-positive rate of
+     * "falsePositiveRate" (in [MIN_RATE, 1[), with an exact window of the last
+     * "window" keys.
+     */
+
+    @SuppressWarnings("boxing")
+    public static DuplicateDetector forKeys(String name, long expectedKeys, double falsePositiveRate, int window) {
+        BasicChecks.checkNotNull(name, "name");
+        BasicChecks.checkTrueOrThrow(expectedKeys > 0, "The 'expectedKeys' is not larger than 0: {}", expectedKeys);
+        BasicChecks.checkTrueOrThrow(falsePositiveRate >= MIN_RATE && falsePositiveRate < 1, "The 'falsePositiveRate' is not in [{}, 1[: {}", MIN_RATE,
+                falsePositiveRate);
+        // binary search for the fewest blocks that reach the rate; N blocks (a rate of about 1e-14) surely do
+        long low = 1;
+        long high = Math.max(1, expectedKeys);
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (falsePositiveRate(expectedKeys / (double) mid) <= falsePositiveRate) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        long bytes = low * BLOCK_BYTES;
+        BasicChecks.checkTrueOrThrow(bytes <= MAX_FILTER_BYTES, "The filter for {} keys at a rate of {} would need {} bytes, more than {}",
+                expectedKeys, falsePositiveRate, bytes, MAX_FILTER_BYTES);
+        return new DuplicateDetector(name, bytes, checkWindow(window));
+    }
+
+    /**
+     * A detector with a filter of "filterBytes" (rounded up to 64), for when
+     * the stream size is not known.
+     */
+
+    @SuppressWarnings("boxing")
+    public static DuplicateDetector withFilterSize(String name, long filterBytes, int window) {
+        BasicChecks.checkNotNull(name, "name");
+        BasicChecks.checkTrueOrThrow(filterBytes > 0 && filterBytes <= MAX_FILTER_BYTES, "The 'filterBytes' is not in [1, {}]: {}", MAX_FILTER_BYTES,
+                filterBytes);
+        long bytes = Math.min(MAX_FILTER_BYTES, (filterBytes + BLOCK_BYTES - 1) / BLOCK_BYTES * BLOCK_BYTES);
+        return new DuplicateDetector(name, bytes, checkWindow(window));
+    }
+
+    @SuppressWarnings("boxing")
+    private static int checkWindow(int window) {
+        BasicChecks.checkTrueOrThrow(window > 0 && window <= Window.MAX_SIZE, "The 'window' is not in [1, {}]: {}", Window.MAX_SIZE, window);
+        return window;
+    }
+
+    /**
+     * Check that "key" has not been seen in the window before; see above.
+     */
+
+    public long checkUnique(long key) {
+        if (isDuplicate(LongHashSet.mix(key))) {
+            failOnDuplicate(Long.valueOf(key));
+        }
+        return key;
+    }
+
+    /**
+     * Check that "key" has not been seen in the window before; see above. The
+     * key is not retained.
+     */
+
+    public byte[] checkUnique(byte[] key) {
+        BasicChecks.checkNotNull(key, "key");
+        if (isDuplicate(hash(key))) {
+            failOnDuplicate(key);
+        }
+        return key;
+    }
+
+    /**
+     * Insert the 64-bit fingerprint "h" (which for long keys is a bijection
+     * of the key) and say whether it is a confirmed duplicate.
+     */
+
+    private boolean isDuplicate(long h) {
+        long seq = keyCount++;
+        boolean maybe = insert(h);
+        long previous = maybe ? window.lastSeen(h, seq) : -1;
+        window.put(h, seq);
+        if (!maybe) {
+            return false;
+        }
+        if (previous < 0) {
+            suspectedCount++;
+            return false;
+        }
+        duplicateCount++;
+        lastDistance = seq - previous;
+        return true;
+    }
+
+    /**
+     * Set the key's bits; true if all of them were set already.
+     */
+
+    private boolean insert(long h) {
+        int base = blockOffset(h);
+        long g = LongHashSet.mix(h ^ 0x9e3779b97f4a7c15L);
+        long missing = 0;
+        for (int i = 0; i < BITS_PER_KEY; i++) {
+            int offset = base + (i << 3);
+            long mask = 1L << (g >>> (6 * i)); // the shift only uses the low 6 bits
+            long word = filter.getLong(offset);
+            missing |= ~word & mask;
+            filter.putLong(offset, word | mask);
+        }
+        return missing == 0;
+    }
+
+    /**
+     * The offset of the block of "h", chosen by its high 32 bits.
+     */
+
+    private int blockOffset(long h) {
+        return (int) (((h >>> 32) * blockCount) >>> 32) * BLOCK_BYTES;
+    }
+
+    @SuppressWarnings("boxing")
+    private void failOnDuplicate(Object key) {
+        BasicChecks.checkFailed("The duplicate detector '{}' has seen the key '{}' before, {} keys ago", name, key, lastDistance);
+    }
+
+    /**
+     * A 64-bit hash of the bytes, 8 at a time.
+     */
+
+    static long hash(byte[] key) {
+        long h = 0x9e3779b97f4a7c15L ^ key.length;
+        int i = 0;
+        for (; i + Long.BYTES <= key.length; i += Long.BYTES) {
+            h = Long.rotateLeft(h ^ LongHashSet.mix((long) LONGS_OF_BYTES.get(key, i)), 29) * 0xbf58476d1ce4e5b9L;
+        }
+        long tail = 0;
+        for (int j = key.length - 1; j >= i; j--) {
+            tail = (tail << 8) | (key[j] & 0xff);
+        }
+        return LongHashSet.mix(h ^ LongHashSet.mix(tail + i));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Keys that were found in the exact window.
+     */
+
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Keys that the filter took for seen but that were not in the window.
+     */
+
+    public long getSuspectedCount() {
+        return suspectedCount;
+    }
+
+    public long getFilterBytes() {
+        return filter.capacity();
+    }
+
+    public int getWindowSize() {
+        return window.size;
+    }
+
+    /**
+     * The expected false-positive rate after the keys inserted so far, by
+     * the sum above.
+     */
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate(keyCount / (double) blockCount);
+    }
+
+    /**
+     * The rate of a split block filter with "keysPerBlock" keys per block on
+     * average, by the sum above. The Poisson weights are taken relative to
+     * the one at the mode and summed over a window of 12 standard deviations
+     * around it, then normalized by their sum, so that nothing underflows
+     * however full the filter is. Beyond SATURATED_KEYS_PER_BLOCK, a block is
+     * practically always full and the rate is 1.
+     */
+
+    static double falsePositiveRate(double keysPerBlock) {
+        if (!(keysPerBlock < SATURATED_KEYS_PER_BLOCK)) {
+            return 1.0;
+        }
+        int mode = (int) keysPerBlock;
+        int span = (int) (12 * Math.sqrt(keysPerBlock) + 30);
+        double sum = 0;
+        double weights = 0;
+        double weight = 1.0; // relative to the Poisson weight at the mode
+        for (int j = mode; j <= mode + span; j++) {
+            sum += weight * blockFalsePositiveRate(j);
+            weights += weight;
+            weight = weight * keysPerBlock / (j + 1);
+        }
+        weight = 1.0;
+        for (int j = mode - 1; j >= Math.max(0, mode - span); j--) {
+            weight = weight * (j + 1) / keysPerBlock;
+            sum += weight * blockFalsePositiveRate(j);
+            weights += weight;
+        }
+        return Math.min(1.0, Math.max(0.0, sum / weights));
+    }
+
+    /**
+     * The probability that a new key finds all its bits set in a block that
+     * holds "keys" keys.
+     */
+
+    private static double blockFalsePositiveRate(int keys) {
+        return Math.pow(1 - Math.pow(63.0 / 64.0, keys), BITS_PER_KEY);
+    }
+
+    @Override
+    public String toString() {
+        return "DuplicateDetector[name=" + name + ", filterBytes=" + getFilterBytes() + ", window=" + window.size
+                + ", keys=" + keyCount + ", duplicates=" + duplicateCount + ", suspected=" + suspectedCount + "]";
+    }
+
+    /**
+     * The fingerprints of the last "size" keys (at least), with the sequence
+     * numbers they were last seen at. They are held in GENERATIONS + 1
+     * append-only open-addressing tables of "size / GENERATIONS" keys each;
+     * once the current table is full, the oldest one is cleared and becomes
+     * the current one. So adding a key is a single probe sequence, with no
+     * per-key eviction, and only the rare lookups (on a "maybe" of the
+     * filter) probe all tables. Lookups go by sequence number, so that the
+     * window is exact even though the tables hold a few more keys.
+     */
+
+    private static final class Window {
+
+        static final int MAX_SIZE = 1 << 26;
+        static final int GENERATIONS = 4;
+
+        final int size;
+        private final int perGeneration;
+        private final long[][] keys;
+        private final long[][] seqs; // sequence number + 1; 0 for "empty"
+        private final int mask;
+        private int current;
+        private int countInCurrent;
+
+        Window(int size) {
+            this.size = size;
+            this.perGeneration = (size + GENERATIONS - 1) / GENERATIONS;
+            int capacity = Integer.highestOneBit(perGeneration * 2 - 1) << 1;
+            this.keys = new long[GENERATIONS + 1][capacity];
+            this.seqs = new long[GENERATIONS + 1][capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * The sequence number at which "h" was last seen, if that is at most
+         * "size" keys before "now"; else -1.
+         */
+
+        long lastSeen(long h, long now) {
+            long res = 0;
+            for (int g = 0; g <= GENERATIONS; g++) {
+                long[] genKeys = keys[g];
+                long[] genSeqs = seqs[g];
+                int slot = (int) h & mask;
+                while (genSeqs[slot] != 0) {
+                    if (genKeys[slot] == h) {
+                        res = Math.max(res, genSeqs[slot]);
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+            return (res != 0 && now - (res - 1) <= size) ? res - 1 : -1;
+        }
+
+        /**
+         * Record "h" as seen at "seq".
+         */
+
+        void put(long h, long seq) {
+            if (countInCurrent == perGeneration) {
+                current = (current == GENERATIONS) ? 0 : current + 1;
+                Arrays.fill(seqs[current], 0);
+                countInCurrent = 0;
+            }
+            long[] genKeys = keys[current];
+            long[] genSeqs = seqs[current];
+            int slot = (int) h & mask;
+            while (genSeqs[slot] != 0) {
+                if (genKeys[slot] == h) {
+                    genSeqs[slot] = seq + 1;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            genKeys[slot] = h;
+            genSeqs[slot] = seq + 1;
+            countInCurrent++;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package name.heavycarbon.checks;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Equality checks for arrays, Lists and CharSequences that say where the
+ * values differ, rather than "checkTrue(Arrays.equals(a, b))" which does not,
+ * or rendering both values in full, which can be huge.
+ *
+ *    import static name.heavycarbon.checks.EqualityChecks.*
+ *
+ *    checkArrayEquals(expectedBytes, frame, "frame");
+ *
+ * Arrays are compared with Arrays.mismatch(), which the JIT turns into
+ * vectorized code for primitive arrays; that is all a passing check costs.
+ * On failure, the message gives the first index at which the values differ
+ * and renders only WINDOW elements on either side of it, e.g.
+ *
+ *    The int[] 'xs' differs from the expected at index 1234 (length 5000,
+ *    expected 5000): expected [... 7, 8, >9<, 10, 11 ...], actual [... 7, 8,
+ *    >0<, 10, 11 ...]
+ *
+ * If one value is a prefix of the other, the index is the shorter length and
+ * the marker there reads ">(end)<".
+ *
+ * As for Arrays.equals(), two nulls are equal, and float/double elements are
+ * compared by their bits: NaN equals NaN, but 0.0 does not equal -0.0.
+ * Object elements are compared with equals(). All checks return "actual".
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+public class EqualityChecks {
+
+    /**
+     * The number of elements rendered on either side of the first mismatch.
+     */
+
+    public static final int WINDOW = 8;
+
+    private static final String END = "(end)";
+
+    // ---
+    // Arrays
+    // ---
+
+    public static byte[] checkArrayEquals(byte[] expected, byte[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "byte[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static short[] checkArrayEquals(short[] expected, short[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "short[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static char[] checkArrayEquals(char[] expected, char[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "char[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static int[] checkArrayEquals(int[] expected, int[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "int[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static long[] checkArrayEquals(long[] expected, long[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "long[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static float[] checkArrayEquals(float[] expected, float[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "float[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static double[] checkArrayEquals(double[] expected, double[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "double[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static boolean[] checkArrayEquals(boolean[] expected, boolean[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, "boolean[]", name);
+            }
+        }
+        return actual;
+    }
+
+    public static <T> T[] checkArrayEquals(T[] expected, T[] actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : Arrays.mismatch(expected, actual);
+            if (at >= 0) {
+                failOnArrays(expected, actual, at, ((actual == null) ? expected : actual).getClass().getTypeName(), name);
+            }
+        }
+        return actual;
+    }
+
+    public static byte[] checkArrayEquals(byte[] expected, byte[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static short[] checkArrayEquals(short[] expected, short[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static char[] checkArrayEquals(char[] expected, char[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static int[] checkArrayEquals(int[] expected, int[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static long[] checkArrayEquals(long[] expected, long[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static float[] checkArrayEquals(float[] expected, float[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static double[] checkArrayEquals(double[] expected, double[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static boolean[] checkArrayEquals(boolean[] expected, boolean[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    public static <T> T[] checkArrayEquals(T[] expected, T[] actual) {
+        return checkArrayEquals(expected, actual, null);
+    }
+
+    // ---
+    // Lists and CharSequences
+    // ---
+
+    /**
+     * Check that the Lists have equal elements in the same order. Lists that
+     * are not RandomAccess are walked with iterators.
+     */
+
+    public static <L extends List<?>> L checkEquals(List<?> expected, L actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : mismatch(expected, actual);
+            if (at >= 0) {
+                String type = ((actual == null) ? expected : actual).getClass().getTypeName();
+                if (expected == null || actual == null) {
+                    failOnNull(expected, type, name);
+                } else {
+                    failOn(type, name, at, expected.size(), actual.size(),
+                            renderWindow(at, expected.size(), i -> render(expected.get(i))),
+                            renderWindow(at, actual.size(), i -> render(actual.get(i))));
+                }
+            }
+        }
+        return actual;
+    }
+
+    public static <L extends List<?>> L checkEquals(List<?> expected, L actual) {
+        return checkEquals(expected, actual, null);
+    }
+
+    /**
+     * Check that the CharSequences have the same chars. Two Strings are
+     * compared with String.equals(), which is an intrinsic.
+     */
+
+    public static <S extends CharSequence> S checkEquals(CharSequence expected, S actual, String name) {
+        if (expected != actual) {
+            int at = (expected == null || actual == null) ? 0 : mismatch(expected, actual);
+            if (at >= 0) {
+                String type = ((actual == null) ? expected : actual).getClass().getTypeName();
+                if (expected == null || actual == null) {
+                    failOnNull(expected, type, name);
+                } else {
+                    failOn(type, name, at, expected.length(), actual.length(),
+                            renderWindow(expected, at), renderWindow(actual, at));
+                }
+            }
+        }
+        return actual;
+    }
+
+    public static <S extends CharSequence> S checkEquals(CharSequence expected, S actual) {
+        return checkEquals(expected, actual, null);
+    }
+
+    /**
+     * The first index at which the Lists differ, or -1.
+     */
+
+    private static int mismatch(List<?> expected, List<?> actual) {
+        int n = Math.min(expected.size(), actual.size());
+        if (expected instanceof RandomAccess && actual instanceof RandomAccess) {
+            for (int i = 0; i < n; i++) {
+                if (!Objects.equals(expected.get(i), actual.get(i))) {
+                    return i;
+                }
+            }
+        } else {
+            Iterator<?> iterExpected = expected.iterator();
+            Iterator<?> iterActual = actual.iterator();
+            for (int i = 0; i < n; i++) {
+                if (!Objects.equals(iterExpected.next(), iterActual.next())) {
+                    return i;
+                }
+            }
+        }
+        return (expected.size() == actual.size()) ? -1 : n;
+    }
+
+    /**
+     * The first index at which the CharSequences differ, or -1.
+     */
+
+    private static int mismatch(CharSequence expected, CharSequence actual) {
+        if (expected instanceof String s1 && actual instanceof String s2 && s1.equals(s2)) {
+            return -1;
+        }
+        int n = Math.min(expected.length(), actual.length());
+        for (int i = 0; i < n; i++) {
+            if (expected.charAt(i) != actual.charAt(i)) {
+                return i;
+            }
+        }
+        return (expected.length() == actual.length()) ? -1 : n;
+    }
+
+    private static void failOnArrays(Object expected, Object actual, int at, String type, String name) {
+        if (expected == null || actual == null) {
+            failOnNull(expected, type, name);
+        } else {
+            int expectedLength = Array.getLength(expected);
+            int actualLength = Array.getLength(actual);
+            failOn(type, name, at, expectedLength, actualLength,
+                    renderWindow(at, expectedLength, i -> render(Array.get(expected, i))),
+                    renderWindow(at, actualLength, i -> render(Array.get(actual, i))));
+        }
+    }
+
+    /**
+     * Render the elements around "at", the one at "at" marked: "[... 7, 8,
+     * >9<, 10, 11 ...]".
+     */
+
+    private static String renderWindow(int at, int length, IntFunction<String> elemAt) {
+        int from = Math.max(0, at - WINDOW);
+        int to = Math.min(length, at + WINDOW + 1);
+        StringBuilder buf = new StringBuilder("[");
+        if (from > 0) {
+            buf.append("... ");
+        }
+        for (int i = from; i < Math.max(to, at + 1); i++) {
+            if (i > from) {
+                buf.append(", ");
+            }
+            if (i == at) {
+                buf.append('>').append((i < length) ? elemAt.apply(i) : END).append('<');
+            } else {
+                buf.append(elemAt.apply(i));
+            }
+        }
+        if (to < length) {
+            buf.append(" ...");
+        }
+        return buf.append(']').toString();
+    }
+
+    /**
+     * Render the chars around "at", the one at "at" marked: "...abc>d<ef...".
+     */
+
+    private static String renderWindow(CharSequence seq, int at) {
+        int length = seq.length();
+        int from = Math.max(0, at - WINDOW);
+        int to = Math.min(length, at + WINDOW + 1);
+        StringBuilder buf = new StringBuilder("\"");
+        if (from > 0) {
+            buf.append("...");
+        }
+        buf.append(seq, from, Math.min(at, length));
+        buf.append('>');
+        if (at < length) {
+            buf.append(seq.charAt(at));
+        } else {
+            buf.append(END);
+        }
+        buf.append('<');
+        if (at < length) {
+            buf.append(seq, at + 1, to);
+        }
+        if (to < length) {
+            buf.append("...");
+        }
+        return buf.append('"').toString();
+    }
+
+    private static String render(Object elem) {
+        return ArgRenderer.render(elem, Formatter.getRenderPolicy());
+    }
+
+    @SuppressWarnings("boxing")
+    private static void failOn(String type, String name, int at, int expectedLength, int actualLength, String expectedWindow,
+            String actualWindow) {
+        failOn(type, name, "differs from the expected at index {} (length {}, expected {}): expected {}, actual {}",
+                at, actualLength, expectedLength, expectedWindow, actualWindow);
+    }
+
+    private static void failOnNull(Object expected, String type, String name) {
+        failOn(type, name, (expected == null) ? "is not (null) but (null) was expected" : "is (null)");
+    }
+
+    /**
+     * Helper, only called on failure. Prefixes "txt" with a description of
+     * the value.
+     */
+
+    private static void failOn(String type, String name, String txt, Object... args) {
+        String prefix;
+        if (name == null) {
+            prefix = "The unnamed " + type + " ";
+        } else {
+            prefix = "The " + type + " '" + name + "' ";
+        }
+        BasicChecks.checkFailed(prefix + txt, args);
+    }
+}
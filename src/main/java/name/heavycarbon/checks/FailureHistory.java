@@ -0,0 +1,77 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * In-memory ring of the most recent check failures, so that there is some
+ * history to look at when things go really wrong (see "PostmortemWriter").
+ *
+ * Only touched on the failure path, and only while a "CannotHappenHandler"
+ * is installed, as the handler is what reads the history; otherwise failures
+ * are not recorded and their messages are not copied. Recording is
+ * lock-free: one atomic increment and one array store. Old entries are
+ * overwritten.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Records only while a "CannotHappenHandler" is installed
+ ******************************************************************************/
+
+public class FailureHistory {
+
+    /**
+     * One recorded failure. "millis" is System.currentTimeMillis().
+     */
+
+    public record Entry(long millis, String threadName, String message) {
+    }
+
+    private static final int CAPACITY = 64; // power of 2
+
+    private static final AtomicReferenceArray<Entry> RING = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong NEXT = new AtomicLong();
+
+    /**
+     * Record a failure message if a "CannotHappenHandler" is installed. The
+     * message is cut to the per-argument limit of the current "RenderPolicy".
+     */
+
+    static void record(String message) {
+        if (BasicChecks.getCannotHappenHandler() == null) {
+            return;
+        }
+        String msg = (message == null) ? null : ArgRenderer.render(message, Formatter.getRenderPolicy());
+        Entry entry = new Entry(System.currentTimeMillis(), Thread.currentThread().getName(), msg);
+        RING.set((int) (NEXT.getAndIncrement() & (CAPACITY - 1)), entry);
+    }
+
+    /**
+     * The recorded failures, oldest first. Concurrent recording may cause an
+     * entry to be missed or to appear out of order.
+     */
+
+    public static List<Entry> getRecent() {
+        long next = NEXT.get();
+        long first = Math.max(0, next - CAPACITY);
+        List<Entry> res = new ArrayList<>((int) (next - first));
+        for (long i = first; i < next; i++) {
+            Entry entry = RING.get((int) (i & (CAPACITY - 1)));
+            if (entry != null) {
+                res.add(entry);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Total number of failures recorded since startup (while a
+     * "CannotHappenHandler" was installed).
+     */
+
+    public static long getTotalCount() {
+        return NEXT.get();
+    }
+}
@@ -0,0 +1,141 @@
+package name.heavycarbon.checks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static name.heavycarbon.checks.FailureRecorder.*;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Offline decoder for the ring files written by "FailureRecorder". Also works
+ * on the file of a crashed (or still running) process: slots that are being
+ * written or that do not hold a record matching their position are skipped.
+ *
+ * Command line:
+ *
+ *    java -cp java_utils_checks-2.0.jar name.heavycarbon.checks.FailureRecordDecoder <ring-file>
+ *
+ * prints the records, oldest first, one per line.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public class FailureRecordDecoder {
+
+    /**
+     * One decoded record.
+     */
+
+    public record Record(long sequence, long millis, int callSiteId, FailureRecorder.Kind kind, String template, List<String> args) {
+
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder();
+            buf.append('#').append(sequence).append(' ').append(Instant.ofEpochMilli(millis));
+            buf.append(' ').append(kind);
+            buf.append(" site=").append(String.format("%08x", callSiteId));
+            buf.append(" '").append(template).append('\'');
+            for (String arg : args) {
+                buf.append(" '").append(arg).append('\'');
+            }
+            return buf.toString();
+        }
+    }
+
+    /**
+     * Decode the ring file "path". The records are returned oldest first.
+     */
+
+    public static List<Record> decode(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new CheckFailedException("The file '" + path + "' is too short to be a failure ring file");
+            }
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            return decode(buf, path);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static List<Record> decode(ByteBuffer buf, Path path) {
+        if (buf.getLong(OFF_MAGIC) != MAGIC) {
+            throw new CheckFailedException("The file '" + path + "' is not a failure ring file (bad magic)");
+        }
+        int version = buf.getInt(OFF_VERSION);
+        int slotSize = buf.getInt(OFF_SLOT_SIZE);
+        long slotCount = buf.getLong(OFF_SLOT_COUNT);
+        BasicChecks.checkTrueOrThrow(version == VERSION, "The file '{}' has unsupported version {}", path, version);
+        BasicChecks.checkTrueOrThrow(slotSize == SLOT_SIZE, "The file '{}' has unsupported slot size {}", path, slotSize);
+        BasicChecks.checkTrueOrThrow(slotCount > 0 && HEADER_SIZE + slotCount * slotSize <= buf.capacity(),
+                "The file '{}' is shorter than its {} slots need", path, slotCount);
+        FailureRecorder.Kind[] kinds = FailureRecorder.Kind.values();
+        List<Record> res = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = HEADER_SIZE + slot * slotSize;
+            long seqPlusOne = buf.getLong(base + SLOT_OFF_SEQ);
+            if (seqPlusOne <= 0 || (seqPlusOne - 1) % slotCount != slot) {
+                continue; // empty, being written, or garbled
+            }
+            int kindIndex = buf.get(base + SLOT_OFF_KIND);
+            FailureRecorder.Kind kind = (kindIndex >= 0 && kindIndex < kinds.length) ? kinds[kindIndex] : FailureRecorder.Kind.OTHER;
+            int argc = buf.get(base + SLOT_OFF_ARGC);
+            int end = base + slotSize;
+            int pos = base + SLOT_OFF_PAYLOAD;
+            int templateLen = buf.getShort(base + SLOT_OFF_TEMPLATE_LEN);
+            if (templateLen < 0 || pos + templateLen > end) {
+                continue;
+            }
+            String template = utf8(buf, pos, templateLen);
+            pos += templateLen;
+            List<String> args = new ArrayList<>(Math.max(argc, 0));
+            for (int i = 0; i < argc && pos + 2 <= end; i++) {
+                int len = buf.getShort(pos);
+                pos += 2;
+                if (len < 0 || pos + len > end) {
+                    break;
+                }
+                args.add(utf8(buf, pos, len));
+                pos += len;
+            }
+            res.add(new Record(seqPlusOne - 1, buf.getLong(base + SLOT_OFF_MILLIS), buf.getInt(base + SLOT_OFF_SITE), kind, template, args));
+        }
+        res.sort(Comparator.comparingLong(Record::sequence));
+        return res;
+    }
+
+    private static String utf8(ByteBuffer buf, int pos, int len) {
+        byte[] bytes = new byte[len];
+        buf.get(pos, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Print the records of "path" to "out".
+     */
+
+    public static void print(Path path, PrintStream out) throws IOException {
+        for (Record record : decode(path)) {
+            out.println(record);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: " + FailureRecordDecoder.class.getName() + " <ring-file>");
+            System.exit(2);
+        }
+        print(Path.of(args[0]), System.out);
+    }
+}
@@ -0,0 +1,291 @@
+package name.heavycarbon.checks;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Compact binary recorder of check failures: a fixed-size ring of fixed-size
+ * slots in a memory-mapped file. Writers append without locking; a record
+ * costs about as much as an in-memory append. As the data lives in the
+ * mapping, it survives a crash of the process and can be rendered back to
+ * text with "FailureRecordDecoder".
+ *
+ * File layout (little-endian):
+ *
+ *    Header, HEADER_SIZE bytes:
+ *       0: long  MAGIC
+ *       8: int   VERSION
+ *      12: int   SLOT_SIZE
+ *      16: long  number of slots
+ *      24: long  write counter (number of records claimed so far)
+ *
+ *    Slot i at HEADER_SIZE + i * SLOT_SIZE:
+ *       0: long  sequence number + 1 of the record in the slot, 0 while
+ *                being written (published last, with release semantics)
+ *       8: long  timestamp, System.currentTimeMillis()
+ *      16: int   call-site id
+ *      20: byte  check kind (ordinal of "Kind")
+ *      21: byte  number of arguments stored
+ *      22: short length of the template in bytes
+ *      24: the template in UTF-8, then for each argument a short length
+ *          followed by the argument's rendering in UTF-8; all truncated so
+ *          as to fit the slot
+ *
+ * The call-site id is up to the caller. The convenience method using a
+ * template takes the identity hash of the template String: templates are
+ * normally literals, so this identifies the call site(s) using it at the
+ * cost of a single header-word read.
+ *
+ * A writer claims the record number with an atomic increment of the write
+ * counter. If more than "number of slots" records are written concurrently,
+ * writers on the same slot may interleave and the slot is garbled; readers
+ * recognize this only partially.
+ *
+ * A recorder can be installed globally with install(), in which case
+ * BasicChecks.checkFailed() records every failure into it.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public class FailureRecorder implements AutoCloseable {
+
+    /**
+     * What kind of check failed.
+     */
+
+    public enum Kind {
+        CHECK_FAILED, INDEX, DEADLINE, VALIDATION, CANNOT_HAPPEN, OTHER
+    }
+
+    static final long MAGIC = 0x31474e4952534b43L; // "CKSRING1" read little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_SIZE = 256;
+
+    static final int OFF_MAGIC = 0;
+    static final int OFF_VERSION = 8;
+    static final int OFF_SLOT_SIZE = 12;
+    static final int OFF_SLOT_COUNT = 16;
+    static final int OFF_COUNTER = 24;
+
+    static final int SLOT_OFF_SEQ = 0;
+    static final int SLOT_OFF_MILLIS = 8;
+    static final int SLOT_OFF_SITE = 16;
+    static final int SLOT_OFF_KIND = 20;
+    static final int SLOT_OFF_ARGC = 21;
+    static final int SLOT_OFF_TEMPLATE_LEN = 22;
+    static final int SLOT_OFF_PAYLOAD = 24;
+
+    private static final int MAX_TEMPLATE_BYTES = 120;
+    private static final int MAX_ARGS = 8;
+    private static final RenderPolicy ARG_POLICY = new RenderPolicy(64, 64, 4, 8);
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static volatile FailureRecorder installed;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long slotCount;
+
+    /**
+     * Open (or create) the ring file "path" with "slotCount" slots. An
+     * existing file with a compatible header is continued; anything else is
+     * reinitialized.
+     */
+
+    @SuppressWarnings("boxing")
+    public FailureRecorder(Path path, int slotCount) throws IOException {
+        this.path = (Path) BasicChecks.checkNotNull(path, "path");
+        int maxSlotCount = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+        BasicChecks.checkTrueOrThrow(1 <= slotCount && slotCount <= maxSlotCount, "The int value 'slotCount' is not in the range [1,{}]: {}",
+                maxSlotCount, slotCount);
+        this.slotCount = slotCount;
+        long size = HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getLong(OFF_MAGIC) != MAGIC
+                || buffer.getInt(OFF_VERSION) != VERSION
+                || buffer.getInt(OFF_SLOT_SIZE) != SLOT_SIZE
+                || buffer.getLong(OFF_SLOT_COUNT) != slotCount) {
+            for (int i = 0; i < size; i += 8) {
+                buffer.putLong(i, 0L);
+            }
+            buffer.putInt(OFF_VERSION, VERSION);
+            buffer.putInt(OFF_SLOT_SIZE, SLOT_SIZE);
+            buffer.putLong(OFF_SLOT_COUNT, slotCount);
+            buffer.putLong(OFF_MAGIC, MAGIC); // last, marks the header as valid
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Number of records written to this file so far (over its whole life).
+     */
+
+    public long getWriteCount() {
+        return (long) LONG_VIEW.getAcquire(buffer, OFF_COUNTER);
+    }
+
+    /**
+     * The globally installed recorder, or null.
+     */
+
+    public static FailureRecorder getInstalled() {
+        return installed;
+    }
+
+    /**
+     * Install "recorder" globally (null to uninstall).
+     */
+
+    public static void install(FailureRecorder recorder) {
+        installed = recorder;
+    }
+
+    /**
+     * Record into the installed recorder, if any. Never throws.
+     */
+
+    static void recordIfInstalled(Kind kind, String template, Object[] args) {
+        FailureRecorder recorder = installed;
+        if (recorder != null) {
+            try {
+                recorder.record(kind, template, args);
+            } catch (RuntimeException exe) {
+                // recording must never get in the way of the actual failure
+            }
+        }
+    }
+
+    /**
+     * Record a failure, using the identity hash of "template" as call-site id.
+     * Returns the record's sequence number.
+     */
+
+    public long record(Kind kind, String template, Object... args) {
+        return record(kind, System.identityHashCode(template), template, args);
+    }
+
+    /**
+     * Record a failure. Returns the record's sequence number.
+     */
+
+    public long record(Kind kind, int callSiteId, String template, Object... args) {
+        long seq = (long) LONG_VIEW.getAndAdd(buffer, OFF_COUNTER, 1L);
+        int base = (int) (HEADER_SIZE + (seq % slotCount) * SLOT_SIZE);
+        int end = base + SLOT_SIZE;
+        LONG_VIEW.setRelease(buffer, base + SLOT_OFF_SEQ, 0L);
+        buffer.putLong(base + SLOT_OFF_MILLIS, System.currentTimeMillis());
+        buffer.putInt(base + SLOT_OFF_SITE, callSiteId);
+        buffer.put(base + SLOT_OFF_KIND, (byte) ((kind == null) ? Kind.OTHER : kind).ordinal());
+        int pos = base + SLOT_OFF_PAYLOAD;
+        int templateLen = (template == null) ? 0 : putUtf8(template, pos, Math.min(pos + MAX_TEMPLATE_BYTES, end));
+        buffer.putShort(base + SLOT_OFF_TEMPLATE_LEN, (short) templateLen);
+        pos += templateLen;
+        int argc = 0;
+        if (args != null) {
+            int max = Math.min(args.length, MAX_ARGS);
+            while (argc < max && pos + 2 < end) {
+                Object arg = args[argc];
+                CharSequence cs = (arg instanceof CharSequence c) ? c : ArgRenderer.render(arg, ARG_POLICY);
+                int len = putUtf8(cs, pos + 2, Math.min(pos + 2 + ARG_POLICY.getMaxCharsPerArg(), end));
+                buffer.putShort(pos, (short) len);
+                pos += 2 + len;
+                argc++;
+            }
+        }
+        buffer.put(base + SLOT_OFF_ARGC, (byte) argc);
+        LONG_VIEW.setRelease(buffer, base + SLOT_OFF_SEQ, seq + 1);
+        return seq;
+    }
+
+    /**
+     * Write "cs" as UTF-8 into [pos,limit[ without allocating; stops at the
+     * last complete character that fits. Unpaired surrogates become '?'.
+     * Returns the number of bytes written.
+     */
+
+    private int putUtf8(CharSequence cs, int pos, int limit) {
+        int start = pos;
+        int len = cs.length();
+        for (int i = 0; i < len; i++) {
+            char c = cs.charAt(i);
+            if (c < 0x80) {
+                if (pos + 1 > limit) {
+                    break;
+                }
+                buffer.put(pos++, (byte) c);
+            } else if (c < 0x800) {
+                if (pos + 2 > limit) {
+                    break;
+                }
+                buffer.put(pos++, (byte) (0xC0 | (c >> 6)));
+                buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(cs.charAt(i + 1))) {
+                if (pos + 4 > limit) {
+                    break;
+                }
+                int cp = Character.toCodePoint(c, cs.charAt(++i));
+                buffer.put(pos++, (byte) (0xF0 | (cp >> 18)));
+                buffer.put(pos++, (byte) (0x80 | ((cp >> 12) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                if (pos + 1 > limit) {
+                    break;
+                }
+                buffer.put(pos++, (byte) '?');
+            } else {
+                if (pos + 3 > limit) {
+                    break;
+                }
+                buffer.put(pos++, (byte) (0xE0 | (c >> 12)));
+                buffer.put(pos++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return pos - start;
+    }
+
+    /**
+     * Flush the mapping to disk. Not needed to survive a process crash, only
+     * to survive a crash of the machine.
+     */
+
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Flush and close the file. The mapping itself stays valid until garbage
+     * collected, so writers racing with close() do not crash. Uninstalls this
+     * recorder if it is the installed one.
+     */
+
+    @Override
+    public void close() throws IOException {
+        if (installed == this) {
+            installed = null;
+        }
+        buffer.force();
+        channel.close();
+    }
+}
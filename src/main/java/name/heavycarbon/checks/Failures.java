@@ -0,0 +1,24 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * The single place through which failing checks report themselves to the
+ * observers: "FailureHistory", the installed "FailureRecorder" and
+ * "CheckMetrics". Only called on the failure path.
+ *
+ * 2026.10.19 - Created to collect the failure hooks in one place
+ ******************************************************************************/
+
+class Failures {
+
+    /**
+     * "txt" and "args" are the unformatted template and arguments, "msg" the
+     * formatted message, "thrown" the type of what is about to be thrown.
+     */
+
+    static void note(FailureRecorder.Kind kind, Class<? extends Throwable> thrown, String txt, Object[] args, String msg) {
+        FailureHistory.record(msg);
+        FailureRecorder.recordIfInstalled(kind, txt, args);
+        CheckMetrics.countFailure(kind, thrown);
+    }
+}
@@ -22,10 +22,28 @@ import java.util.regex.Pattern;
  *              to use than '%s '%d' etc.
  * 2014.02.01 - Namespace changed from "com.mplify.checkers" to "com.example"
  * 2015.08.07 - Namespace changed from "com.example" to "name.heavycarbon.checks"
+ * 2026.10.19 - Arguments are rendered in bounded fashion according to a
+ *              "RenderPolicy", and the message as a whole is cut off, too.
+ * 2026.10.19 - Formatting time is counted by "CheckMetrics" if enabled
  ******************************************************************************/
 
 public class Formatter {
 
+    /**
+     * The limits applied when rendering arguments and messages. Can be changed
+     * at any time; formatting reads it once per message.
+     */
+
+    private static volatile RenderPolicy renderPolicy = RenderPolicy.DEFAULT;
+
+    public static RenderPolicy getRenderPolicy() {
+        return renderPolicy;
+    }
+
+    public static void setRenderPolicy(RenderPolicy policy) {
+        renderPolicy = (RenderPolicy) BasicChecks.checkNotNull(policy, "policy");
+    }
+
     /**
      * Create a "last ditch effort" string to format arguments, after everything
      * else failed. formatForMe() should be called rarely, so this is called
@@ -102,6 +120,7 @@ public class Formatter {
 
     private static String formatForMeLow(String formatStr, Object... args) {
         assert args != null;
+        final RenderPolicy policy = renderPolicy;
         //
         // If "formatStr" is null, select a default format string, otherwise
         // replace the SLF4J
@@ -130,11 +149,14 @@ public class Formatter {
             }
         }
         //
-        // Format to "res"; if an Exception occurs, return its description
+        // Format to "res"; if an Exception occurs, return its description.
+        // Arguments that may be large are replaced by their bounded rendering
+        // beforehand (on a copy, the caller's array stays untouched).
         //
         StringBuilder res = new StringBuilder();
         try (java.util.Formatter formatter = new java.util.Formatter(res)) {
-            formatter.format(formatStrLocal, argsLocal);
+            formatter.format(formatStrLocal, boundArgs(argsLocal, args, policy));
+            ArgRenderer.truncateMessage(res, policy);
             return res.toString();
         } catch (Exception exe) {
             StringBuilder buf = new StringBuilder();
@@ -156,13 +178,32 @@ public class Formatter {
                 buf.append("Argument ");
                 buf.append(i);
                 buf.append(": '");
-                buf.append(args[i]);
+                ArgRenderer.appendTo(buf, args[i], policy);
                 buf.append("'\n");
             }
+            ArgRenderer.truncateMessage(buf, policy);
             return buf.toString();
         }
     }
 
+    /**
+     * Replace those arguments that may render to something large by their
+     * bounded rendering. "argsLocal" is either "args" or a private copy.
+     */
+
+    private static Object[] boundArgs(Object[] argsLocal, Object[] args, RenderPolicy policy) {
+        Object[] res = argsLocal;
+        for (int i = 0; i < res.length; i++) {
+            if (ArgRenderer.needsRendering(res[i], policy)) {
+                if (res == args) {
+                    res = args.clone();
+                }
+                res[i] = ArgRenderer.render(res[i], policy);
+            }
+        }
+        return res;
+    }
+
     /**
      * Generate a string given a "formatStr", which contains formatting
      * information according to java.util.Formatter
@@ -187,6 +228,12 @@ public class Formatter {
         // For objects and the %s format specifier, Java invokes .toString() on
         // the object (which could throw).
         //
+        if (CheckMetrics.isEnabled()) {
+            long start = System.nanoTime();
+            String res = formatForMeLow(formatStr, args);
+            CheckMetrics.countFormatting(System.nanoTime() - start);
+            return res;
+        }
         return formatForMeLow(formatStr, args);
     }
 }
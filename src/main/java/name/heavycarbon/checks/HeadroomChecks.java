@@ -0,0 +1,287 @@
+package name.heavycarbon.checks;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Admission checks for load shedding: reject incoming work with a
+ * CheckFailedException when free memory gets scarce, instead of thrashing
+ * into an OutOfMemoryError.
+ *
+ *    HeadroomChecks.install(0.85);   // once, at startup
+ *    ...
+ *    HeadroomChecks.checkHeapHeadroom(0.10);   // per request
+ *
+ * The checks never call an MXBean. They read a cached snapshot of the free
+ * fractions of the monitored pools (a single volatile read). The snapshot
+ * is recomputed:
+ *
+ * - after every garbage collection (GC notifications),
+ * - whenever a memory pool crosses its usage threshold or collection usage
+ *   threshold, which install() sets to a given fraction of the pool's
+ *   maximum (usage-threshold notifications), catching allocation bursts
+ *   between collections,
+ * - on an explicit call to refresh().
+ *
+ * Until install() or refresh() has been called, the snapshot claims that
+ * everything is free, i.e. the checks pass.
+ *
+ * Pools whose maximum is undefined (often the case for Metaspace) are
+ * considered entirely free.
+ *
+ * The thresholds the pools had before install() are put back by uninstall().
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - uninstall() restores the pools' previous thresholds
+ ******************************************************************************/
+
+public class HeadroomChecks {
+
+    /**
+     * The monitored pools. OLD_GEN falls back to the whole heap if no old
+     * generation pool can be identified (e.g. with non-generational
+     * collectors).
+     */
+
+    public enum Pool {
+        HEAP, OLD_GEN, METASPACE, DIRECT
+    }
+
+    /**
+     * Free fractions (in [0,1]) of the monitored pools at a given time.
+     * Immutable.
+     */
+
+    public record Snapshot(double heapFree, double oldGenFree, double metaspaceFree, double directFree, long sequence) {
+
+        public double free(Pool pool) {
+            return switch (pool) {
+                case HEAP -> heapFree;
+                case OLD_GEN -> oldGenFree;
+                case METASPACE -> metaspaceFree;
+                case DIRECT -> directFree;
+            };
+        }
+    }
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private static volatile Snapshot snapshot = new Snapshot(1.0, 1.0, 1.0, 1.0, 0);
+
+    private static final NotificationListener LISTENER = HeadroomChecks::handleNotification;
+
+    private static final List<NotificationEmitter> registeredEmitters = new ArrayList<>();
+
+    /**
+     * The thresholds of a pool before install() changed them; -1 where the
+     * threshold is not supported.
+     */
+
+    private record SavedThresholds(MemoryPoolMXBean pool, long usageThreshold, long collectionUsageThreshold) {
+    }
+
+    private static final List<SavedThresholds> savedThresholds = new ArrayList<>();
+
+    /**
+     * Check that at least "minFreeFraction" of the maximum heap is free.
+     */
+
+    public static void checkHeapHeadroom(double minFreeFraction) {
+        checkHeadroom(Pool.HEAP, minFreeFraction);
+    }
+
+    /**
+     * Check that at least "minFreeFraction" of the given pool's maximum is free.
+     */
+
+    @SuppressWarnings("boxing")
+    public static void checkHeadroom(Pool pool, double minFreeFraction) {
+        double free = snapshot.free(pool);
+        if (free < minFreeFraction) {
+            BasicChecks.checkFailed("Not enough headroom in memory pool {}: free fraction {} is below the required {}",
+                    pool, String.format("%.3f", free), minFreeFraction);
+        }
+    }
+
+    /**
+     * The current cached snapshot.
+     */
+
+    public static Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Recompute the snapshot now, by querying the MXBeans. Returns the new
+     * snapshot.
+     */
+
+    public static Snapshot refresh() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        double heapFree = freeFraction(memoryBean.getHeapMemoryUsage());
+        double oldGenFree = heapFree;
+        double metaspaceFree = 1.0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (!pool.isValid()) {
+                continue;
+            }
+            if (isOldGen(pool)) {
+                MemoryUsage usage = pool.getUsage();
+                if (usage != null && usage.getMax() > 0) {
+                    oldGenFree = freeFraction(usage);
+                }
+            } else if ("Metaspace".equals(pool.getName())) {
+                MemoryUsage usage = pool.getUsage();
+                if (usage != null) {
+                    metaspaceFree = freeFraction(usage);
+                }
+            }
+        }
+        double directFree = directFree();
+        Snapshot res = new Snapshot(heapFree, oldGenFree, metaspaceFree, directFree, SEQUENCE.incrementAndGet());
+        snapshot = res;
+        return res;
+    }
+
+    /**
+     * Start listening to GC notifications and to usage-threshold
+     * notifications. Usage thresholds of the heap pools are set to
+     * "usageThresholdFraction" of their maximum. Calling this again replaces
+     * the previous installation.
+     */
+
+    @SuppressWarnings("boxing")
+    public static synchronized void install(double usageThresholdFraction) {
+        BasicChecks.checkTrueOrThrow(0.0 < usageThresholdFraction && usageThresholdFraction <= 1.0,
+                "The usage threshold fraction {} is not in ]0,1]", usageThresholdFraction);
+        uninstall();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP || !pool.isValid()) {
+                continue;
+            }
+            long max = pool.getUsage().getMax();
+            if (max <= 0) {
+                continue;
+            }
+            long threshold = (long) (max * usageThresholdFraction);
+            savedThresholds.add(new SavedThresholds(pool,
+                    pool.isUsageThresholdSupported() ? pool.getUsageThreshold() : -1,
+                    pool.isCollectionUsageThresholdSupported() ? pool.getCollectionUsageThreshold() : -1));
+            if (pool.isUsageThresholdSupported()) {
+                pool.setUsageThreshold(threshold);
+            }
+            if (pool.isCollectionUsageThresholdSupported()) {
+                pool.setCollectionUsageThreshold(threshold);
+            }
+        }
+        register((NotificationEmitter) ManagementFactory.getMemoryMXBean());
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean instanceof NotificationEmitter emitter) {
+                register(emitter);
+            }
+        }
+        refresh();
+    }
+
+    /**
+     * Stop listening and put back the thresholds the pools had before
+     * install(). The snapshot keeps its last value.
+     */
+
+    public static synchronized void uninstall() {
+        for (SavedThresholds saved : savedThresholds) {
+            if (saved.usageThreshold() >= 0) {
+                saved.pool().setUsageThreshold(saved.usageThreshold());
+            }
+            if (saved.collectionUsageThreshold() >= 0) {
+                saved.pool().setCollectionUsageThreshold(saved.collectionUsageThreshold());
+            }
+        }
+        savedThresholds.clear();
+        for (NotificationEmitter emitter : registeredEmitters) {
+            try {
+                emitter.removeNotificationListener(LISTENER);
+            } catch (ListenerNotFoundException exe) {
+                // already gone, fine
+            }
+        }
+        registeredEmitters.clear();
+    }
+
+    private static void register(NotificationEmitter emitter) {
+        emitter.addNotificationListener(LISTENER, null, null);
+        registeredEmitters.add(emitter);
+    }
+
+    private static void handleNotification(Notification notification, Object handback) {
+        String type = notification.getType();
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(type)
+                || MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED.equals(type)
+                || MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(type)) {
+            refresh();
+        }
+    }
+
+    private static boolean isOldGen(MemoryPoolMXBean pool) {
+        if (pool.getType() != MemoryType.HEAP) {
+            return false;
+        }
+        String name = pool.getName();
+        return name.contains("Old") || name.contains("Tenured");
+    }
+
+    private static double freeFraction(MemoryUsage usage) {
+        long max = usage.getMax();
+        if (max <= 0) {
+            return 1.0;
+        }
+        return Math.max(0.0, (double) (max - usage.getUsed()) / max);
+    }
+
+    private static double directFree() {
+        long max = maxDirectMemory();
+        if (max <= 0) {
+            return 1.0;
+        }
+        for (BufferPoolMXBean bean : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(bean.getName())) {
+                return Math.max(0.0, (double) (max - bean.getMemoryUsed()) / max);
+            }
+        }
+        return 1.0;
+    }
+
+    /**
+     * The limit on direct buffer memory: -XX:MaxDirectMemorySize, where 0
+     * (the default) means "same as the maximum heap size".
+     */
+
+    private static long maxDirectMemory() {
+        try {
+            HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            long value = (bean == null) ? 0 : Long.parseLong(bean.getVMOption("MaxDirectMemorySize").getValue());
+            return (value > 0) ? value : Runtime.getRuntime().maxMemory();
+        } catch (RuntimeException exe) {
+            return Runtime.getRuntime().maxMemory();
+        }
+    }
+}
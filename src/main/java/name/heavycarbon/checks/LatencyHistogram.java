@@ -0,0 +1,120 @@
+package name.heavycarbon.checks;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * A lock-free histogram of non-negative durations (nanoseconds), with
+ * log-linear buckets in the manner of HdrHistogram: values below
+ * 2^SUB_BUCKET_BITS get a bucket each, above that every power of two is split
+ * into 2^SUB_BUCKET_BITS equal buckets. The relative error of any reported
+ * value is thus below 1 / 2^SUB_BUCKET_BITS (about 3%), over the whole range
+ * of "long".
+ *
+ * record() is allocation-free: it computes the bucket index with a few shifts
+ * and increments one element of an AtomicLongArray. Concurrent recording
+ * threads only contend if they hit the same bucket.
+ *
+ * snapshot() copies the counts without stopping recorders, so a snapshot
+ * taken during recording may be off by the values recorded meanwhile.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+public class LatencyHistogram {
+
+    /**
+     * Percentiles of a histogram at one point in time. The values are the
+     * highest values equivalent to the bucket the percentile falls into (but
+     * at most "max"); all are 0 if "count" is 0.
+     */
+
+    public record Snapshot(long count, long p50, long p99, long p999, long max) {
+    }
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record one value. Negative values (e.g. from a clock going backwards)
+     * are recorded as 0.
+     */
+
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        counts.getAndIncrement(indexOf(v));
+        long curMax = max.get();
+        while (v > curMax && !max.compareAndSet(curMax, v)) {
+            curMax = max.get();
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * The highest value that lands in bucket "index".
+     */
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long sub = index - ((long) shift << SUB_BUCKET_BITS);
+        long next = (sub + 1) << shift;
+        return (next <= 0) ? Long.MAX_VALUE : next - 1; // overflow in the topmost bucket
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long curMax = max.get();
+        if (count == 0) {
+            return new Snapshot(0, 0, 0, 0, 0);
+        }
+        return new Snapshot(count,
+                percentile(copy, count, 0.50, curMax),
+                percentile(copy, count, 0.99, curMax),
+                percentile(copy, count, 0.999, curMax),
+                curMax);
+    }
+
+    private static long percentile(long[] copy, long count, double fraction, long curMax) {
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < copy.length; i++) {
+            seen += copy[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), curMax);
+            }
+        }
+        return curMax;
+    }
+
+    /**
+     * Forget all recorded values. Values recorded concurrently may or may not
+     * survive.
+     */
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+}
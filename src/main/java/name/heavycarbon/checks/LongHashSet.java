@@ -0,0 +1,138 @@
+package name.heavycarbon.checks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * A set of primitive longs with open addressing and linear probing, so that
+ * distinctness checks do not box every element into a HashSet<Long>.
+ *
+ * The table holds 0 for "empty"; whether 0 itself is in the set is held
+ * apart. It is sized once for the expected number of elements (load factor
+ * at most 1/2) and does not grow. Tables of at least OFF_HEAP_BYTES are
+ * allocated off-heap, as a direct buffer, so that a very large check does not
+ * need that much free heap; the memory is freed when the set is collected.
+ *
+ * Not thread-safe while being filled. Once filled, it may be read by any
+ * number of threads if it was published safely, e.g. through a final field
+ * (as "MembershipIndex" does).
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Documented concurrent reads
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - MAX_CAPACITY lowered to 2^27 so that the largest table fits a
+ *              direct buffer
+ ******************************************************************************/
+
+final class LongHashSet {
+
+    /**
+     * Tables of at least this many bytes are allocated off-heap.
+     */
+
+    static final int OFF_HEAP_BYTES = 32 * 1024 * 1024;
+
+    /**
+     * The largest number of slots; an off-heap table must fit an int-sized
+     * direct buffer, i.e. have fewer than 2^31 bytes.
+     */
+
+    static final int MAX_CAPACITY = 1 << 27;
+
+    /**
+     * The largest number of elements a set can be created for.
+     */
+
+    static final int MAX_SIZE = MAX_CAPACITY / 2;
+
+    private final LongBuffer table;
+    private final int mask;
+    private boolean hasZero;
+    private int size;
+
+    @SuppressWarnings("boxing")
+    LongHashSet(int expectedSize) {
+        BasicChecks.checkTrueOrThrow(expectedSize >= 0, "The 'expectedSize' is less than 0: {}", expectedSize);
+        BasicChecks.checkTrueOrThrow(expectedSize <= MAX_SIZE, "The 'expectedSize' is larger than {}: {}", MAX_SIZE, expectedSize);
+        int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+        long bytes = (long) capacity * Long.BYTES;
+        assert capacity <= MAX_CAPACITY && bytes <= Integer.MAX_VALUE;
+        if (bytes >= OFF_HEAP_BYTES) {
+            table = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder()).asLongBuffer();
+        } else {
+            table = LongBuffer.wrap(new long[capacity]);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Add "value"; false if it was in the set already.
+     */
+
+    boolean add(long value) {
+        if (value == 0) {
+            boolean added = !hasZero;
+            hasZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        if (size >= mask) {
+            BasicChecks.checkFailed("The set is full");
+        }
+        int slot = (int) mix(value) & mask;
+        while (true) {
+            long cur = table.get(slot);
+            if (cur == 0) {
+                table.put(slot, value);
+                size++;
+                return true;
+            }
+            if (cur == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    boolean contains(long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        int slot = (int) mix(value) & mask;
+        while (true) {
+            long cur = table.get(slot);
+            if (cur == 0) {
+                return false;
+            }
+            if (cur == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isOffHeap() {
+        return table.isDirect();
+    }
+
+    /**
+     * The finalizer of MurmurHash3, which spreads the bits of "value" so that
+     * sequential IDs do not probe in runs.
+     */
+
+    static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,380 @@
+package name.heavycarbon.checks;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * A membership test built once from a container (array, Collection or the
+ * keys of a Map) for checking many members against it, where
+ * BasicChecks.checkMemberInContainer() would scan an array afresh on every
+ * call:
+ *
+ *    private static final MembershipIndex COUNTRY_CODES = MembershipIndex.of(loadCountryCodes());
+ *
+ *    COUNTRY_CODES.check(code);
+ *
+ * check() fails exactly when checkMemberInContainer() would on the container
+ * as it was when the index was built, with the same message; the index is a
+ * snapshot and does not see later changes of the container. As for
+ * checkMemberInContainer(), members are compared with equals(), so an Integer
+ * is never found among Longs. (Containers whose contains() is not based on
+ * equals(), such as a TreeSet with a case-insensitive Comparator, are indexed
+ * by equals() all the same.)
+ *
+ * The representation is chosen from the elements:
+ *
+ * - Elements all of one integral type (byte, short, char, int, long, or
+ *   their boxes) or all float or all double (compared by their bits, as
+ *   Float.equals() and Double.equals() do): a sorted long[], searched
+ *   binarily. From LARGE elements on, a "LongHashSet" instead, which is held
+ *   off-heap once its table reaches 32 MB; beyond LongHashSet.MAX_SIZE
+ *   elements, the sorted long[] again.
+ * - Elements all Strings: a minimal perfect hash (hash-and-displace, as in
+ *   "CHD"): a String is hashed to 64 bits, which select a bucket, whose
+ *   displacement then selects the one slot the String can be in. A lookup is
+ *   one hash of the member, two array reads and one equals().
+ * - Anything else: a HashSet copy.
+ *
+ * Instances are immutable and thread-safe.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Failures always throw
+ * 2026.10.19 - Sets beyond LongHashSet.MAX_SIZE stay sorted arrays
+ ******************************************************************************/
+
+public abstract class MembershipIndex {
+
+    /**
+     * From this many distinct numeric elements on, a hash table is used
+     * rather than a sorted array.
+     */
+
+    public static final int LARGE = 1 << 20;
+
+    private final String failurePrefix;
+    private final boolean containsNull;
+    private final int size;
+
+    private MembershipIndex(String failurePrefix, boolean containsNull, int size) {
+        this.failurePrefix = failurePrefix;
+        this.containsNull = containsNull;
+        this.size = size;
+    }
+
+    /**
+     * Build the index for "container", which can be an array, a Collection
+     * or a Map (whose keys are indexed), as for checkMemberInContainer().
+     */
+
+    public static MembershipIndex of(Object container) {
+        BasicChecks.checkNotNull(container, "container");
+        String failurePrefix;
+        List<Object> elems;
+        if (container instanceof Collection<?> coll) {
+            failurePrefix = "The " + container.getClass().getName() + " does not contain the member ";
+            elems = new ArrayList<>(coll);
+        } else if (container instanceof Map<?, ?> map) {
+            failurePrefix = "The " + container.getClass().getName() + " does not contain the key ";
+            elems = new ArrayList<>(map.keySet());
+        } else if (container.getClass().isArray()) {
+            failurePrefix = "The array of type " + container.getClass().getName() + " does not contain the key ";
+            int length = Array.getLength(container);
+            elems = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                elems.add(Array.get(container, i));
+            }
+        } else {
+            BasicChecks.checkFailed("The passed object of type '" + container.getClass().getName() + "' is not handled -- fix code!");
+            throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+        Set<Object> distinct = new LinkedHashSet<>(elems);
+        boolean containsNull = distinct.remove(null);
+        Class<?> elemClass = commonClassOf(distinct);
+        if (elemClass != null && isNumeric(elemClass)) {
+            long[] values = new long[distinct.size()];
+            int i = 0;
+            for (Object elem : distinct) {
+                values[i++] = toLong(elem);
+            }
+            return new Numeric(failurePrefix, containsNull, elemClass, values);
+        }
+        if (elemClass == String.class) {
+            String[] strings = distinct.toArray(new String[0]);
+            MembershipIndex res = PerfectHash.build(failurePrefix, containsNull, strings);
+            if (res != null) {
+                return res;
+            }
+        }
+        return new Hashed(failurePrefix, containsNull, distinct);
+    }
+
+    /**
+     * Check that "member" is in the container, failing as
+     * checkMemberInContainer() does.
+     */
+
+    public final void check(Object member) {
+        if (!contains(member)) {
+            BasicChecks.checkFailed(failurePrefix + (member == null ? "(null)" : ("of type " + member.getClass().getName())));
+        }
+    }
+
+    public final boolean contains(Object member) {
+        return (member == null) ? containsNull : containsNonNull(member);
+    }
+
+    /**
+     * The number of distinct elements, null included.
+     */
+
+    public final int size() {
+        return size + (containsNull ? 1 : 0);
+    }
+
+    abstract boolean containsNonNull(Object member);
+
+    /**
+     * A short description of the representation, for toString().
+     */
+
+    abstract String describe();
+
+    @Override
+    public String toString() {
+        return "MembershipIndex[" + describe() + ", " + size() + " elements]";
+    }
+
+    private static Class<?> commonClassOf(Collection<Object> elems) {
+        Class<?> res = null;
+        for (Object elem : elems) {
+            if (res == null) {
+                res = elem.getClass();
+            } else if (res != elem.getClass()) {
+                return null;
+            }
+        }
+        return res;
+    }
+
+    private static boolean isNumeric(Class<?> clazz) {
+        return clazz == Long.class || clazz == Integer.class || clazz == Short.class || clazz == Byte.class || clazz == Character.class
+                || clazz == Float.class || clazz == Double.class;
+    }
+
+    /**
+     * The value of a numeric box as a long; floating-point values by their
+     * bits, so that equality is that of equals().
+     */
+
+    private static long toLong(Object elem) {
+        if (elem instanceof Double d) {
+            return Double.doubleToLongBits(d.doubleValue());
+        }
+        if (elem instanceof Float f) {
+            return Float.floatToIntBits(f.floatValue());
+        }
+        if (elem instanceof Character c) {
+            return c.charValue();
+        }
+        return ((Number) elem).longValue();
+    }
+
+    /**
+     * Numeric elements of one type, as longs.
+     */
+
+    private static final class Numeric extends MembershipIndex {
+
+        private final Class<?> elemClass;
+        private final long[] sorted; // null if hashed
+        private final LongHashSet table; // null if sorted
+
+        Numeric(String failurePrefix, boolean containsNull, Class<?> elemClass, long[] values) {
+            super(failurePrefix, containsNull, values.length);
+            this.elemClass = elemClass;
+            if (values.length < LARGE || values.length > LongHashSet.MAX_SIZE) {
+                Arrays.sort(values);
+                this.sorted = values;
+                this.table = null;
+            } else {
+                this.sorted = null;
+                this.table = new LongHashSet(values.length);
+                for (long value : values) {
+                    table.add(value);
+                }
+            }
+        }
+
+        @Override
+        boolean containsNonNull(Object member) {
+            if (member.getClass() != elemClass) {
+                return false;
+            }
+            long value = toLong(member);
+            return (sorted != null) ? Arrays.binarySearch(sorted, value) >= 0 : table.contains(value);
+        }
+
+        @Override
+        String describe() {
+            String type = elemClass.getSimpleName();
+            return (sorted != null) ? "sorted " + type + " values" : ((table.isOffHeap() ? "off-heap" : "on-heap") + " table of " + type + " values");
+        }
+    }
+
+    /**
+     * Strings, in a minimal perfect hash.
+     */
+
+    private static final class PerfectHash extends MembershipIndex {
+
+        private static final int KEYS_PER_BUCKET = 4;
+
+        private final String[] slots;
+        private final int[] displacements;
+
+        private PerfectHash(String failurePrefix, boolean containsNull, String[] slots, int[] displacements) {
+            super(failurePrefix, containsNull, slots.length);
+            this.slots = slots;
+            this.displacements = displacements;
+        }
+
+        /**
+         * Place the (distinct) "keys", the buckets with most keys first; each
+         * bucket gets the first displacement that maps all of its keys to
+         * free slots. Returns null if some bucket finds none (which happens
+         * if two keys have the same 64-bit hash).
+         */
+
+        @SuppressWarnings("boxing")
+        static PerfectHash build(String failurePrefix, boolean containsNull, String[] keys) {
+            int n = keys.length;
+            int bucketCount = Math.max(1, n / KEYS_PER_BUCKET);
+            long[] hashes = new long[n];
+            List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+            for (int b = 0; b < bucketCount; b++) {
+                buckets.add(new ArrayList<>(KEYS_PER_BUCKET));
+            }
+            for (int i = 0; i < n; i++) {
+                hashes[i] = hash(keys[i]);
+                buckets.get(bucketOf(hashes[i], bucketCount)).add(i);
+            }
+            Integer[] order = new Integer[bucketCount];
+            for (int b = 0; b < bucketCount; b++) {
+                order[b] = b;
+            }
+            Arrays.sort(order, Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+            String[] slots = new String[n];
+            int[] displacements = new int[bucketCount];
+            long maxTries = 64L * n + 1024;
+            int[] taken = new int[KEYS_PER_BUCKET * 4];
+            for (Integer b : order) {
+                List<Integer> bucket = buckets.get(b);
+                if (bucket.isEmpty()) {
+                    break;
+                }
+                if (taken.length < bucket.size()) {
+                    taken = new int[bucket.size()];
+                }
+                boolean placed = false;
+                for (int d = 0; d < maxTries && !placed; d++) {
+                    placed = true;
+                    for (int k = 0; k < bucket.size() && placed; k++) {
+                        int slot = slotOf(hashes[bucket.get(k)], d, n);
+                        placed = slots[slot] == null && !contains(taken, k, slot);
+                        taken[k] = slot;
+                    }
+                    if (placed) {
+                        for (int k = 0; k < bucket.size(); k++) {
+                            slots[taken[k]] = keys[bucket.get(k)];
+                        }
+                        displacements[b] = d;
+                    }
+                }
+                if (!placed) {
+                    return null;
+                }
+            }
+            return new PerfectHash(failurePrefix, containsNull, slots, displacements);
+        }
+
+        private static boolean contains(int[] array, int length, int value) {
+            for (int i = 0; i < length; i++) {
+                if (array[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean containsNonNull(Object member) {
+            if (!(member instanceof String str) || slots.length == 0) {
+                return false;
+            }
+            long h = hash(str);
+            int slot = slotOf(h, displacements[bucketOf(h, displacements.length)], slots.length);
+            return slots[slot].equals(str);
+        }
+
+        private static int bucketOf(long h, int bucketCount) {
+            return (int) (((h >>> 32) * bucketCount) >>> 32);
+        }
+
+        private static int slotOf(long h, int displacement, int n) {
+            long g = LongHashSet.mix(h + displacement * 0x9e3779b97f4a7c15L);
+            return (int) (((g & 0xffffffffL) * n) >>> 32);
+        }
+
+        /**
+         * A 64-bit hash of the chars (FNV-1a, then spread). String.hashCode()
+         * would be cached, but it is too short: distinct Strings share it
+         * too often for a perfect hash.
+         */
+
+        static long hash(String str) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < str.length(); i++) {
+                h = (h ^ str.charAt(i)) * 0x100000001b3L;
+            }
+            return LongHashSet.mix(h ^ str.length());
+        }
+
+        @Override
+        String describe() {
+            return "perfect hash of Strings";
+        }
+    }
+
+    /**
+     * Anything else, in a HashSet.
+     */
+
+    private static final class Hashed extends MembershipIndex {
+
+        private final Set<Object> set;
+
+        Hashed(String failurePrefix, boolean containsNull, Set<Object> elems) {
+            super(failurePrefix, containsNull, elems.size());
+            this.set = new HashSet<>(elems);
+        }
+
+        @Override
+        boolean containsNonNull(Object member) {
+            return set.contains(member);
+        }
+
+        @Override
+        String describe() {
+            return "hash set";
+        }
+    }
+}
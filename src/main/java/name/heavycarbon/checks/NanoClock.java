@@ -0,0 +1,17 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Source of monotonic time in nanoseconds, as System.nanoTime(). Exists so
+ * that time-based checks can be driven by a fake clock in tests.
+ *
+ * 2026.10.19 - Created for the latency-budget checks
+ ******************************************************************************/
+
+@FunctionalInterface
+public interface NanoClock {
+
+    NanoClock SYSTEM = System::nanoTime;
+
+    long nanoTime();
+}
@@ -0,0 +1,335 @@
+package name.heavycarbon.checks;
+
+import java.nio.ByteBuffer;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Parse-and-range checks for numbers held as text in a slice of a larger
+ * CharSequence or of a ByteBuffer of ASCII, as met when ingesting records:
+ * rather than
+ *
+ *    int port = checkBetween(1, 65535, Integer.parseInt(line.substring(from, to)), "port");
+ *
+ * which creates a String, throws a NumberFormatException on bad text and
+ * reads the digits twice, write
+ *
+ *    import static name.heavycarbon.checks.ParseChecks.*
+ *
+ *    int port = checkParsableInt(line, from, to - from, 1, 65535, "port");
+ *
+ * which reads the slice once, allocates nothing when the check passes, and
+ * returns the value. The failure message names the slice and shows its text,
+ * e.g.
+ *
+ *    The text 'port' at [17,22[ is not a parsable int: "65x35"
+ *    The text 'port' at [17,22[ is not in the range [1,65535]: "70000"
+ *
+ * Text that is well-formed but does not fit the type (e.g. an int of 11
+ * digits) is "not in the range".
+ *
+ * Accepted text:
+ *
+ * - int and long: an optional '+' or '-' followed by at least one ASCII digit,
+ *   as for Integer.parseInt(), but without non-ASCII digits.
+ * - double: an optional sign, at least one digit with an optional '.'
+ *   among them ("1.", ".5"), and an optional exponent "e" or "E" with an
+ *   optional sign and at least one digit. No whitespace, no "NaN", no
+ *   "Infinity", no hex notation and no 'd' or 'f' suffix, all of which
+ *   Double.parseDouble() would accept. The value is the same as the one
+ *   Double.parseDouble() gives. Values whose significant digits make at most
+ *   2^53 (so all with up to 15 digits) and whose decimal exponent is at most
+ *   22 in magnitude, i.e. practically all values in records, are computed
+ *   directly and exactly; others are handed to Double.parseDouble(), which
+ *   creates a String.
+ *
+ * Offsets of ByteBuffers are absolute, as for ByteBuffer.get(int); the
+ * buffer's position is not changed. Bytes are taken as ISO-8859-1.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Failures always throw
+ ******************************************************************************/
+
+public class ParseChecks {
+
+    /**
+     * At most this many chars of the slice are shown in a failure message.
+     */
+
+    public static final int MAX_SHOWN = 64;
+
+    /**
+     * The powers of 10 that are exact doubles.
+     */
+
+    private static final double[] POWERS_OF_10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+            1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /**
+     * Up to this value, a long converts to a double exactly.
+     */
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    // ---
+    // int
+    // ---
+
+    public static int checkParsableInt(CharSequence text, int offset, int length, int lowest, int highest) {
+        return checkParsableInt(text, offset, length, lowest, highest, null);
+    }
+
+    public static int checkParsableInt(CharSequence text, int offset, int length, int lowest, int highest, String name) {
+        BasicChecks.checkNotNull(text, name);
+        BasicChecks.checkFromIndexSize(offset, length, text.length());
+        return (int) parseLong(text, offset, offset + length, lowest, highest, "int", name);
+    }
+
+    public static int checkParsableInt(ByteBuffer buf, int offset, int length, int lowest, int highest) {
+        return checkParsableInt(buf, offset, length, lowest, highest, null);
+    }
+
+    public static int checkParsableInt(ByteBuffer buf, int offset, int length, int lowest, int highest, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        BasicChecks.checkFromIndexSize(offset, length, buf.limit());
+        return (int) parseLong(buf, offset, offset + length, lowest, highest, "int", name);
+    }
+
+    // ---
+    // long
+    // ---
+
+    public static long checkParsableLong(CharSequence text, int offset, int length, long lowest, long highest) {
+        return checkParsableLong(text, offset, length, lowest, highest, null);
+    }
+
+    public static long checkParsableLong(CharSequence text, int offset, int length, long lowest, long highest, String name) {
+        BasicChecks.checkNotNull(text, name);
+        BasicChecks.checkFromIndexSize(offset, length, text.length());
+        return parseLong(text, offset, offset + length, lowest, highest, "long", name);
+    }
+
+    public static long checkParsableLong(ByteBuffer buf, int offset, int length, long lowest, long highest) {
+        return checkParsableLong(buf, offset, length, lowest, highest, null);
+    }
+
+    public static long checkParsableLong(ByteBuffer buf, int offset, int length, long lowest, long highest, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        BasicChecks.checkFromIndexSize(offset, length, buf.limit());
+        return parseLong(buf, offset, offset + length, lowest, highest, "long", name);
+    }
+
+    // ---
+    // double
+    // ---
+
+    public static double checkParsableDouble(CharSequence text, int offset, int length, double lowest, double highest) {
+        return checkParsableDouble(text, offset, length, lowest, highest, null);
+    }
+
+    public static double checkParsableDouble(CharSequence text, int offset, int length, double lowest, double highest, String name) {
+        BasicChecks.checkNotNull(text, name);
+        BasicChecks.checkFromIndexSize(offset, length, text.length());
+        return parseDouble(text, offset, offset + length, lowest, highest, name);
+    }
+
+    public static double checkParsableDouble(ByteBuffer buf, int offset, int length, double lowest, double highest) {
+        return checkParsableDouble(buf, offset, length, lowest, highest, null);
+    }
+
+    public static double checkParsableDouble(ByteBuffer buf, int offset, int length, double lowest, double highest, String name) {
+        BasicChecks.checkNotNull(buf, name);
+        BasicChecks.checkFromIndexSize(offset, length, buf.limit());
+        return parseDouble(buf, offset, offset + length, lowest, highest, name);
+    }
+
+    // ---
+    // Parsing
+    // ---
+
+    /**
+     * The char at "index" of "src", a CharSequence or a ByteBuffer.
+     */
+
+    private static char charAt(Object src, int index) {
+        if (src instanceof ByteBuffer buf) {
+            return (char) (buf.get(index) & 0xff);
+        } else {
+            return ((CharSequence) src).charAt(index);
+        }
+    }
+
+    /**
+     * Parse [from,to[ of "src" as a long and check it against the range. The
+     * value is accumulated negatively, as in Long.parseLong(), so that
+     * Long.MIN_VALUE can be reached; on overflow, the rest of the slice is
+     * still read to tell bad text from a value out of range.
+     */
+
+    private static long parseLong(Object src, int from, int to, long lowest, long highest, String type, String name) {
+        int i = from;
+        boolean negative = false;
+        if (i < to) {
+            char c = charAt(src, i);
+            if (c == '-') {
+                negative = true;
+                i++;
+            } else if (c == '+') {
+                i++;
+            }
+        }
+        if (i == to) {
+            failOnText(src, from, to, name, "is not a parsable " + type);
+            throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multLimit = limit / 10;
+        long acc = 0;
+        boolean overflow = false;
+        for (; i < to; i++) {
+            int digit = charAt(src, i) - '0';
+            if (digit < 0 || digit > 9) {
+                failOnText(src, from, to, name, "is not a parsable " + type);
+                throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+            }
+            if (acc < multLimit || acc * 10 < limit + digit) {
+                overflow = true;
+            } else if (!overflow) {
+                acc = acc * 10 - digit;
+            }
+        }
+        long value = negative ? acc : -acc;
+        if (overflow || value < lowest || value > highest) {
+            failOnText(src, from, to, name, "is not in the range [" + lowest + "," + highest + "]");
+            throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+        return value;
+    }
+
+    /**
+     * Parse [from,to[ of "src" as a double and check it against the range.
+     * The significant digits are gathered into a long mantissa and the
+     * position of the '.' and the exponent into a decimal exponent; if both
+     * are small enough, mantissa and power of 10 are exact doubles and one
+     * multiplication or division rounds correctly.
+     */
+
+    private static double parseDouble(Object src, int from, int to, double lowest, double highest, String name) {
+        int i = from;
+        boolean negative = false;
+        if (i < to) {
+            char c = charAt(src, i);
+            if (c == '-') {
+                negative = true;
+                i++;
+            } else if (c == '+') {
+                i++;
+            }
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean inPoint = false;
+        boolean pointSeen = false;
+        for (; i < to; i++) {
+            char c = charAt(src, i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (mantissa != 0 || c != '0') {
+                    if (significantDigits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        if (inPoint) {
+                            exponent--;
+                        }
+                    } else if (!inPoint) {
+                        exponent++; // digit dropped, the value is inexact anyway
+                    }
+                    significantDigits++;
+                } else if (inPoint) {
+                    exponent--;
+                }
+            } else if (c == '.' && !pointSeen) {
+                pointSeen = true;
+                inPoint = true;
+            } else {
+                break;
+            }
+        }
+        boolean wellFormed = digits > 0;
+        if (wellFormed && i < to) {
+            char c = charAt(src, i);
+            wellFormed = (c == 'e' || c == 'E');
+            i++;
+            boolean negativeExponent = false;
+            if (wellFormed && i < to) {
+                c = charAt(src, i);
+                if (c == '-') {
+                    negativeExponent = true;
+                    i++;
+                } else if (c == '+') {
+                    i++;
+                }
+            }
+            wellFormed = wellFormed && i < to;
+            int exponentValue = 0;
+            for (; wellFormed && i < to; i++) {
+                int digit = charAt(src, i) - '0';
+                wellFormed = (digit >= 0 && digit <= 9);
+                if (exponentValue < 100_000) {
+                    exponentValue = exponentValue * 10 + digit;
+                }
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        if (!wellFormed) {
+            failOnText(src, from, to, name, "is not a parsable double");
+            throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+        double value;
+        if (significantDigits <= 18 && mantissa <= MAX_EXACT_MANTISSA && Math.abs(exponent) < POWERS_OF_10.length) {
+            value = (exponent >= 0) ? mantissa * POWERS_OF_10[exponent] : mantissa / POWERS_OF_10[-exponent];
+            value = negative ? -value : value;
+        } else {
+            value = Double.parseDouble(render(src, from, to, to - from));
+        }
+        if (!(value >= lowest && value <= highest)) {
+            failOnText(src, from, to, name, "is not in the range [" + lowest + "," + highest + "]");
+            throw new Error(BasicChecks.NEVER_GETTING_HERE_BUT_KEEPING_COMPILER_HAPPY);
+        }
+        return value;
+    }
+
+    /**
+     * The chars of [from,to[ of "src", at most "max" of them; bytes of a
+     * ByteBuffer as ISO-8859-1.
+     */
+
+    private static String render(Object src, int from, int to, int max) {
+        int end = Math.min(to, from + max);
+        StringBuilder buf = new StringBuilder(end - from + 3);
+        for (int i = from; i < end; i++) {
+            buf.append(charAt(src, i));
+        }
+        if (end < to) {
+            buf.append("...");
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Helper, only called on failure. Prefixes "txt" with a description of
+     * the slice and appends its text.
+     */
+
+    @SuppressWarnings("boxing")
+    private static void failOnText(Object src, int from, int to, String name, String txt) {
+        String what = (src instanceof ByteBuffer) ? "bytes" : "text";
+        String prefix;
+        if (name == null) {
+            prefix = "The unnamed " + what + " ";
+        } else {
+            prefix = "The " + what + " '" + name + "' ";
+        }
+        BasicChecks.checkFailed(prefix + "at [{},{}[ " + txt + ": \"{}\"", from, to, render(src, from, to, MAX_SHOWN));
+    }
+}
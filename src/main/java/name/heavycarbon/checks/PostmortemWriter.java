@@ -0,0 +1,177 @@
+package name.heavycarbon.checks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * A "CannotHappenHandler" that writes a diagnostic snapshot to a local file
+ * when BasicChecks.cannotHappen() fires:
+ *
+ * - the formatted message, the cause and a bounded summary of each argument,
+ * - the recent check failures from "FailureHistory",
+ * - a dump of all threads (stack traces of limited depth).
+ *
+ * The data is captured on the failing thread (no I/O involved), then handed
+ * to a single background daemon thread, which renders and writes it. If
+ * that thread is behind, further snapshots are dropped rather than queued
+ * without bound.
+ *
+ * Firings from the same call site are deduplicated: after a snapshot has been
+ * taken, further ones from that call site are skipped for "dedupMillis"
+ * milliseconds, so a hot broken path does not flood the disk.
+ *
+ *    BasicChecks.setCannotHappenHandler(new PostmortemWriter(Path.of("/var/tmp/postmortem"), 60_000));
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - close() does not throw InterruptedException
+ ******************************************************************************/
+
+public class PostmortemWriter implements CannotHappenHandler, AutoCloseable {
+
+    private static final int MAX_STACK_DEPTH = 64;
+    private static final int MAX_QUEUED = 4;
+
+    private final Path directory;
+    private final long dedupMillis;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<String, Long> lastFired = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public PostmortemWriter(Path directory, long dedupMillis) {
+        this.directory = (Path) BasicChecks.checkNotNull(directory, "directory");
+        this.dedupMillis = dedupMillis;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "postmortem-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, exec) -> suppressed.incrementAndGet());
+    }
+
+    /**
+     * Number of snapshot files written so far.
+     */
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Number of snapshots skipped because of deduplication or a full queue.
+     */
+
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    @Override
+    public void cannotHappen(String message, Throwable cause, Object[] args) {
+        StackTraceElement callSite = findCallSite();
+        String key = String.valueOf(callSite);
+        long now = System.currentTimeMillis();
+        Long last = lastFired.get(key);
+        if ((last != null && now - last < dedupMillis) || !claim(key, last, now)) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        //
+        // Capture on the failing thread; render and write on the background thread
+        //
+        String threadName = Thread.currentThread().getName();
+        RenderPolicy policy = Formatter.getRenderPolicy();
+        String[] argSummaries = new String[(args == null) ? 0 : args.length];
+        for (int i = 0; i < argSummaries.length; i++) {
+            argSummaries[i] = ArgRenderer.render(args[i], policy);
+        }
+        List<FailureHistory.Entry> recent = FailureHistory.getRecent();
+        ThreadInfo[] threads = ManagementFactory.getThreadMXBean().dumpAllThreads(false, false, MAX_STACK_DEPTH);
+        long seq = sequence.incrementAndGet();
+        executor.execute(() -> write(seq, now, threadName, callSite, message, cause, argSummaries, recent, threads));
+    }
+
+    private boolean claim(String key, Long last, long now) {
+        if (last == null) {
+            return lastFired.putIfAbsent(key, now) == null;
+        } else {
+            return lastFired.replace(key, last, now);
+        }
+    }
+
+    /**
+     * Wait until all pending snapshots have been written, then stop the
+     * background thread. If interrupted while waiting, this returns at once
+     * with the interrupt flag set again.
+     */
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException exe) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static StackTraceElement findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(BasicChecks.class.getName())
+                        && !f.getClassName().equals(PostmortemWriter.class.getName()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null));
+    }
+
+    private void write(long seq, long millis, String threadName, StackTraceElement callSite, String message,
+                       Throwable cause, String[] argSummaries, List<FailureHistory.Entry> recent, ThreadInfo[] threads) {
+        StringBuilder buf = new StringBuilder();
+        buf.append("cannotHappen() fired at ").append(Instant.ofEpochMilli(millis)).append('\n');
+        buf.append("Thread: ").append(threadName).append('\n');
+        buf.append("Call site: ").append(callSite).append('\n');
+        buf.append("Message: ").append(message).append('\n');
+        if (cause != null) {
+            buf.append("Cause: ").append(ArgRenderer.render(cause, Formatter.getRenderPolicy())).append('\n');
+        }
+        for (int i = 0; i < argSummaries.length; i++) {
+            buf.append("Argument ").append(i).append(": '").append(argSummaries[i]).append("'\n");
+        }
+        buf.append("\nRecent check failures (").append(recent.size()).append("):\n");
+        for (FailureHistory.Entry entry : recent) {
+            buf.append(Instant.ofEpochMilli(entry.millis())).append(" [").append(entry.threadName()).append("] ")
+                    .append(entry.message()).append('\n');
+        }
+        buf.append("\nThreads (").append(threads.length).append("):\n");
+        for (ThreadInfo info : threads) {
+            buf.append('"').append(info.getThreadName()).append("\" id=").append(info.getThreadId())
+                    .append(' ').append(info.getThreadState()).append('\n');
+            for (StackTraceElement elem : info.getStackTrace()) {
+                buf.append("    at ").append(elem).append('\n');
+            }
+            buf.append('\n');
+        }
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("cannot-happen-" + millis + "-" + seq + ".txt");
+            Files.writeString(file, buf, StandardCharsets.UTF_8);
+            written.incrementAndGet();
+        } catch (IOException exe) {
+            System.err.println("Could not write postmortem snapshot to " + directory + ": " + exe);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package name.heavycarbon.checks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Serves the counters of "CheckMetrics" and "SampledCheck" in the Prometheus
+ * text exposition format (version 0.0.4) at "/metrics", using the JDK's
+ * built-in HTTP server bound to the loopback interface.
+ *
+ *    CheckMetrics.setEnabled(true);
+ *    PrometheusExporter exporter = PrometheusExporter.start(9464);
+ *    ...
+ *    exporter.close();
+ *
+ * Scrapes are rendered one at a time into a single reused output buffer; the
+ * counter series come with their names and labels pre-encoded, and numbers
+ * are written digit by digit, so a scrape allocates nothing on our side once
+ * the buffer has grown to its working size.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Added the counters of "SampledCheck"
+ ******************************************************************************/
+
+public class PrometheusExporter implements AutoCloseable {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final byte[] FAILURES_HEADER = ascii(
+            "# HELP checks_failures_total Number of failed checks, by check kind and thrown type.\n"
+                    + "# TYPE checks_failures_total counter\n");
+    private static final byte[] VALIDATE_INVOCATIONS_HEADER = ascii(
+            "# HELP checks_validate_invocations_total Number of validate() invocations by validateIt(), by class.\n"
+                    + "# TYPE checks_validate_invocations_total counter\n");
+    private static final byte[] VALIDATE_FAILURES_HEADER = ascii(
+            "# HELP checks_validate_failures_total Number of failed validations by validateIt(), by class.\n"
+                    + "# TYPE checks_validate_failures_total counter\n");
+    private static final byte[] SAMPLED_CALLS_HEADER = ascii(
+            "# HELP checks_sampled_calls_total Number of calls of a SampledCheck, run or not.\n"
+                    + "# TYPE checks_sampled_calls_total counter\n");
+    private static final byte[] SAMPLED_RUNS_HEADER = ascii(
+            "# HELP checks_sampled_runs_total Number of times a SampledCheck actually ran.\n"
+                    + "# TYPE checks_sampled_runs_total counter\n");
+    private static final byte[] SAMPLED_FAILURES_HEADER = ascii(
+            "# HELP checks_sampled_failures_total Number of times a SampledCheck ran and failed.\n"
+                    + "# TYPE checks_sampled_failures_total counter\n");
+    private static final byte[] FORMATTING_HEADER = ascii(
+            "# HELP checks_formatting_total Number of formatted check messages.\n"
+                    + "# TYPE checks_formatting_total counter\n");
+    private static final byte[] FORMATTING_NANOS_HEADER = ascii(
+            "# HELP checks_formatting_nanoseconds_total Total time spent formatting check messages.\n"
+                    + "# TYPE checks_formatting_nanoseconds_total counter\n");
+
+    private final HttpServer server;
+
+    // Guarded by "this"
+    private byte[] buf = new byte[4096];
+    private int len;
+
+    private PrometheusExporter(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Start serving on the loopback interface at "port" (0 for an ephemeral
+     * port; see getPort()).
+     */
+
+    public static PrometheusExporter start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        PrometheusExporter exporter = new PrometheusExporter(server);
+        server.createContext("/metrics", exporter::handle);
+        server.start(); // default executor: requests are handled one at a time
+        return exporter;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            synchronized (this) {
+                render();
+                exchange.sendResponseHeaders(200, len);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(buf, 0, len);
+                }
+            }
+        }
+    }
+
+    /**
+     * Render all metrics into the buffer. Returns the exposition text; for
+     * tests and for callers that want to push the metrics themselves.
+     */
+
+    public synchronized String renderToString() {
+        render();
+        return new String(buf, 0, len, StandardCharsets.UTF_8);
+    }
+
+    private void render() {
+        len = 0;
+        append(FAILURES_HEADER);
+        for (CheckMetrics.Series series : CheckMetrics.failureSeries) {
+            long value = series.adder.sum();
+            if (value != 0) {
+                appendSample(series.prefix, value);
+            }
+        }
+        append(VALIDATE_INVOCATIONS_HEADER);
+        for (CheckMetrics.ValidationSeries series : CheckMetrics.validationSeries) {
+            appendSample(series.invocations.prefix, series.invocations.adder.sum());
+        }
+        append(VALIDATE_FAILURES_HEADER);
+        for (CheckMetrics.ValidationSeries series : CheckMetrics.validationSeries) {
+            appendSample(series.failures.prefix, series.failures.adder.sum());
+        }
+        append(SAMPLED_CALLS_HEADER);
+        for (SampledCheck check : SampledCheck.all) {
+            appendSample(check.calls.prefix, check.calls.adder.sum());
+        }
+        append(SAMPLED_RUNS_HEADER);
+        for (SampledCheck check : SampledCheck.all) {
+            appendSample(check.runs.prefix, check.runs.adder.sum());
+        }
+        append(SAMPLED_FAILURES_HEADER);
+        for (SampledCheck check : SampledCheck.all) {
+            appendSample(check.failures.prefix, check.failures.adder.sum());
+        }
+        append(FORMATTING_HEADER);
+        appendSample(CheckMetrics.formattingCount.prefix, CheckMetrics.formattingCount.adder.sum());
+        append(FORMATTING_NANOS_HEADER);
+        appendSample(CheckMetrics.formattingNanos.prefix, CheckMetrics.formattingNanos.adder.sum());
+    }
+
+    private void appendSample(byte[] prefix, long value) {
+        append(prefix);
+        appendLong(value);
+        ensure(1);
+        buf[len++] = '\n';
+    }
+
+    private void append(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, len, bytes.length);
+        len += bytes.length;
+    }
+
+    private void appendLong(long value) {
+        ensure(20);
+        if (value == 0) {
+            buf[len++] = '0';
+            return;
+        }
+        long v = value;
+        if (v < 0) {
+            buf[len++] = '-';
+            if (v == Long.MIN_VALUE) {
+                append(ascii("9223372036854775808"));
+                return;
+            }
+            v = -v;
+        }
+        int start = len;
+        while (v > 0) {
+            buf[len++] = (byte) ('0' + (v % 10));
+            v /= 10;
+        }
+        // digits were written least significant first
+        for (int i = start, j = len - 1; i < j; i++, j--) {
+            byte tmp = buf[i];
+            buf[i] = buf[j];
+            buf[j] = tmp;
+        }
+    }
+
+    private void ensure(int more) {
+        if (len + more > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + more));
+        }
+    }
+
+    private static byte[] ascii(String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+}
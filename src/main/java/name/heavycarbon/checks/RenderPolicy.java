@@ -0,0 +1,75 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Limits applied by "Formatter" when rendering the arguments of a failure
+ * message. A failing check may well be passed a List with 10 million entries
+ * or a byte array of several megabytes; the message built from those should
+ * nevertheless stay small.
+ *
+ * - "maxCharsPerArg": the rendering of a single argument is cut off after
+ *   this many characters.
+ * - "maxCharsPerMessage": the whole formatted message is cut off after this
+ *   many characters.
+ * - "maxElements": Collections, Maps and arrays are rendered as their size
+ *   plus at most this many leading elements.
+ * - "maxHexBytes": byte arrays are rendered as their size plus a hex preview
+ *   of at most this many leading bytes.
+ *
+ * Instances are immutable. The policy used by "Formatter" can be changed with
+ * Formatter.setRenderPolicy().
+ *
+ * 2026.10.19 - Created to bound the size of failure messages
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public class RenderPolicy {
+
+    /**
+     * The policy used unless something else has been set.
+     */
+
+    public static final RenderPolicy DEFAULT = new RenderPolicy(1024, 8 * 1024, 16, 32);
+
+    /**
+     * Marker appended to anything that has been cut off.
+     */
+
+    public static final String TRUNCATION_MARKER = "...";
+
+    private final int maxCharsPerArg;
+    private final int maxCharsPerMessage;
+    private final int maxElements;
+    private final int maxHexBytes;
+
+    public RenderPolicy(int maxCharsPerArg, int maxCharsPerMessage, int maxElements, int maxHexBytes) {
+        this.maxCharsPerArg = BasicChecks.checkLargerThanZero(maxCharsPerArg, "maxCharsPerArg");
+        this.maxCharsPerMessage = BasicChecks.checkLargerThanZero(maxCharsPerMessage, "maxCharsPerMessage");
+        BasicChecks.checkTrueOrThrow(maxElements >= 0, "The 'maxElements' is less than 0: {}", maxElements);
+        BasicChecks.checkTrueOrThrow(maxHexBytes >= 0, "The 'maxHexBytes' is less than 0: {}", maxHexBytes);
+        this.maxElements = maxElements;
+        this.maxHexBytes = maxHexBytes;
+    }
+
+    public int getMaxCharsPerArg() {
+        return maxCharsPerArg;
+    }
+
+    public int getMaxCharsPerMessage() {
+        return maxCharsPerMessage;
+    }
+
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    public int getMaxHexBytes() {
+        return maxHexBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderPolicy[maxCharsPerArg=" + maxCharsPerArg + ", maxCharsPerMessage=" + maxCharsPerMessage
+                + ", maxElements=" + maxElements + ", maxHexBytes=" + maxHexBytes + "]";
+    }
+}
@@ -0,0 +1,134 @@
+package name.heavycarbon.checks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * An allocation budget for one code section that is only measured on one in
+ * "sampleEvery" executions, so that it can stay switched on in production.
+ * Create one instance per section and keep it in a static final field:
+ *
+ *    private static final SampledAllocationCheck DECODE =
+ *          new SampledAllocationCheck("decode loop", 0, 100, null);
+ *
+ *    long mark = DECODE.enter();
+ *    ... garbage-sensitive code ...
+ *    DECODE.exit(mark);
+ *
+ * The sampling decision uses ThreadLocalRandom, so threads do not contend.
+ * Unsampled executions cost one random draw in enter() and one comparison
+ * in exit().
+ *
+ * If a "Listener" is given, an exceeded budget is reported to it (e.g. to
+ * feed metrics) instead of throwing a CheckFailedException.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+public class SampledAllocationCheck {
+
+    /**
+     * Receives reports about sections that exceeded their budget.
+     */
+
+    @FunctionalInterface
+    public interface Listener {
+        void budgetExceeded(SampledAllocationCheck check, long allocatedBytes);
+    }
+
+    /**
+     * Returned by enter() if this execution is not sampled.
+     */
+
+    private static final long NOT_SAMPLED = AllocationChecks.NOT_SUPPORTED;
+
+    private final String name;
+    private final long maxBytes;
+    private final int sampleEvery;
+    private final Listener listener;
+
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder exceeded = new LongAdder();
+
+    /**
+     * "sampleEvery" of 1 means "measure every execution". "listener" may be
+     * null, meaning "throw CheckFailedException".
+     */
+
+    public SampledAllocationCheck(String name, long maxBytes, int sampleEvery, Listener listener) {
+        this.name = (String) BasicChecks.checkNotNull(name, "name");
+        this.maxBytes = maxBytes;
+        this.sampleEvery = BasicChecks.checkLargerThanZero(sampleEvery, "sampleEvery");
+        this.listener = listener;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    /**
+     * Number of executions actually measured so far.
+     */
+
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+
+    /**
+     * Number of measured executions that exceeded the budget so far.
+     */
+
+    public long getExceededCount() {
+        return exceeded.sum();
+    }
+
+    /**
+     * Call on entry to the section; pass the result to exit().
+     */
+
+    public long enter() {
+        if (sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0) {
+            return NOT_SAMPLED;
+        }
+        return AllocationChecks.mark();
+    }
+
+    /**
+     * Call on exit from the section with the value returned by enter().
+     */
+
+    @SuppressWarnings("boxing")
+    public void exit(long mark) {
+        if (mark == NOT_SAMPLED) {
+            return;
+        }
+        long allocated = AllocationChecks.allocatedSince(mark);
+        if (allocated == AllocationChecks.NOT_SUPPORTED) {
+            return;
+        }
+        sampled.increment();
+        if (allocated > maxBytes) {
+            exceeded.increment();
+            if (listener != null) {
+                listener.budgetExceeded(this, allocated);
+            } else {
+                BasicChecks.checkFailed("The section '{}' allocated {} bytes, more than the budget of {} bytes", name, allocated, maxBytes);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SampledAllocationCheck[name=" + name + ", maxBytes=" + maxBytes + ", sampleEvery=" + sampleEvery
+                + ", sampled=" + getSampledCount() + ", exceeded=" + getExceededCount() + "]";
+    }
+}
@@ -0,0 +1,169 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Runs an expensive invariant check (full membership scans, element-wise
+ * collection checks, deep validateIt(), ...) only on some of the calls, so
+ * that it can stay in production code. Create one instance per call site
+ * and keep it in a static final field:
+ *
+ *    private static final SampledCheck CATALOG_SCAN = SampledCheck.oneIn("catalog scan", 1000);
+ *
+ *    CATALOG_SCAN.run(() -> BasicChecks.checkMemberInContainer(item, catalog));
+ *
+ * Two ways of sampling:
+ *
+ * - oneIn(): the check runs on one in "every" calls, decided by a draw from
+ *   ThreadLocalRandom (a per-thread xorshift-style generator, no contention).
+ * - cpuFraction(): the check runs as often as it can while the time spent in
+ *   it stays at most "fraction" of the elapsed time: after a run that took
+ *   d nanoseconds, the next run is admitted only d * (1 / fraction - 1)
+ *   nanoseconds later. Only one thread runs the check at any time. Deciding
+ *   costs a clock read.
+ *
+ * Each instance counts calls, actual runs and failed runs; the counts of all
+ * instances are available from getAll() and are exported by
+ * "PrometheusExporter", so the invariants still get statistical coverage
+ * under full load. Failures are counted, then rethrown.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public class SampledCheck {
+
+    static final Queue<SampledCheck> all = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Held by a running cpuFraction() check so that no other thread starts it.
+     */
+
+    private static final long RUNNING = Long.MAX_VALUE / 2;
+
+    private final String name;
+    private final int every; // 0 for cpuFraction()
+    private final double fraction; // 0 for oneIn()
+    private final AtomicLong nextAllowedNanos;
+
+    final CheckMetrics.Series calls;
+    final CheckMetrics.Series runs;
+    final CheckMetrics.Series failures;
+
+    private SampledCheck(String name, int every, double fraction) {
+        this.name = (String) BasicChecks.checkNotNull(name, "name");
+        this.every = every;
+        this.fraction = fraction;
+        this.nextAllowedNanos = (fraction > 0) ? new AtomicLong(System.nanoTime()) : null;
+        String label = "{check=\"" + CheckMetrics.escape(name) + "\"}";
+        this.calls = new CheckMetrics.Series("checks_sampled_calls_total" + label);
+        this.runs = new CheckMetrics.Series("checks_sampled_runs_total" + label);
+        this.failures = new CheckMetrics.Series("checks_sampled_failures_total" + label);
+        all.add(this);
+    }
+
+    /**
+     * A check that runs on one in "every" calls; 1 runs it on every call.
+     */
+
+    public static SampledCheck oneIn(String name, int every) {
+        return new SampledCheck(name, BasicChecks.checkLargerThanZero(every, "every"), 0);
+    }
+
+    /**
+     * A check that runs while it takes at most "fraction" (in ]0,1]) of the
+     * elapsed time.
+     */
+
+    @SuppressWarnings("boxing")
+    public static SampledCheck cpuFraction(String name, double fraction) {
+        BasicChecks.checkTrueOrThrow(fraction > 0 && fraction <= 1, "The 'fraction' is not in ]0,1]: {}", fraction);
+        return new SampledCheck(name, 0, fraction);
+    }
+
+    /**
+     * All instances created so far.
+     */
+
+    public static List<SampledCheck> getAll() {
+        return new ArrayList<>(all);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Run "check" if this call is sampled. Returns whether it ran.
+     */
+
+    public boolean run(Runnable check) {
+        calls.adder.increment();
+        if (every > 0) {
+            if (every > 1 && ThreadLocalRandom.current().nextInt(every) != 0) {
+                return false;
+            }
+            runCounted(check);
+            return true;
+        }
+        long now = System.nanoTime();
+        long next = nextAllowedNanos.get();
+        if (now - next < 0 || !nextAllowedNanos.compareAndSet(next, now + RUNNING)) {
+            return false;
+        }
+        try {
+            runCounted(check);
+        } finally {
+            long end = System.nanoTime();
+            nextAllowedNanos.set(end + (long) ((end - now) * (1 / fraction - 1)));
+        }
+        return true;
+    }
+
+    private void runCounted(Runnable check) {
+        runs.adder.increment();
+        try {
+            check.run();
+        } catch (RuntimeException | Error exe) {
+            failures.adder.increment();
+            throw exe;
+        }
+    }
+
+    /**
+     * Number of calls to run(), whether sampled or not.
+     */
+
+    public long getCallCount() {
+        return calls.adder.sum();
+    }
+
+    /**
+     * Number of times the check actually ran.
+     */
+
+    public long getRunCount() {
+        return runs.adder.sum();
+    }
+
+    /**
+     * Number of times the check ran and failed.
+     */
+
+    public long getFailureCount() {
+        return failures.adder.sum();
+    }
+
+    @Override
+    public String toString() {
+        String sampling = (every > 0) ? "oneIn=" + every : "cpuFraction=" + fraction;
+        return "SampledCheck[name=" + name + ", " + sampling + ", calls=" + getCallCount() + ", runs=" + getRunCount()
+                + ", failures=" + getFailureCount() + "]";
+    }
+}
@@ -0,0 +1,18 @@
+package name.heavycarbon.checks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Marker interface for classes whose instances are immutable, so that an
+ * instance that has passed BasicChecks.validateIt() once stays valid for
+ * good. If the "ValidatedOnceCache" is enabled, such instances are validated
+ * only the first time they are seen.
+ *
+ * Do not put this on classes that have mutable state that validate() looks
+ * at: the cache goes by identity and will not notice the change.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+public interface ValidateOnce {
+    // marker only
+}
@@ -0,0 +1,227 @@
+package name.heavycarbon.checks;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Opt-in memoization for BasicChecks.validateIt(): instances of classes
+ * marked with "ValidateOnce" that passed validation are remembered, and
+ * further validateIt() calls on them return at once.
+ *
+ *    ValidatedOnceCache.setEnabled(true);
+ *
+ * The cache is a concurrent set keyed by object identity: it never calls
+ * equals() or hashCode() of the cached objects (which may be expensive or
+ * broken) and holds them weakly, so it does not keep anything alive. Entries
+ * of collected objects are dropped when the next object is added.
+ *
+ * The number of entries is bounded by "maxSize"; once full, newly validated
+ * objects are not remembered (and counted as "rejected") until collected
+ * objects make room.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+public class ValidatedOnceCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    /**
+     * Common view of stored and lookup keys: identity of the referent.
+     */
+
+    private interface Key {
+
+        Object referent();
+
+        static boolean same(Key key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            if (!(other instanceof Key otherKey)) {
+                return false;
+            }
+            Object referent = key.referent();
+            return referent != null && referent == otherKey.referent();
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Object> implements Key {
+
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.same(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record LookupKey(Object referent) implements Key {
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.same(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+    }
+
+    private static volatile boolean enabled;
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private static final ConcurrentHashMap<Key, Boolean> validated = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evicted = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch memoization on or off. Switching off also empties the cache.
+     */
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+        if (!on) {
+            clear();
+        }
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    public static void setMaxSize(int max) {
+        maxSize = BasicChecks.checkLargerThanZero(max, "max");
+    }
+
+    // ---
+    // Called from BasicChecks.validateIt()
+    // ---
+
+    /**
+     * Whether "obj" is known to have passed validation. Always false if the
+     * cache is disabled or the object is not a "ValidateOnce".
+     */
+
+    static boolean isValidated(Object obj) {
+        if (!enabled || !(obj instanceof ValidateOnce)) {
+            return false;
+        }
+        if (validated.containsKey(new LookupKey(obj))) {
+            hits.increment();
+            return true;
+        } else {
+            misses.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Remember that "obj" has passed validation, if it qualifies.
+     */
+
+    static void remember(Object obj) {
+        if (!enabled || !(obj instanceof ValidateOnce)) {
+            return;
+        }
+        expunge();
+        if (validated.mappingCount() >= maxSize) {
+            rejected.increment();
+            return;
+        }
+        validated.putIfAbsent(new WeakKey(obj, collected), Boolean.TRUE);
+    }
+
+    private static void expunge() {
+        Reference<?> ref;
+        while ((ref = collected.poll()) != null) {
+            if (validated.remove(ref) != null) {
+                evicted.increment();
+            }
+        }
+    }
+
+    // ---
+    // Stats
+    // ---
+
+    /**
+     * Number of validateIt() calls skipped because the object was cached.
+     */
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of validateIt() calls on "ValidateOnce" objects not (yet) cached.
+     */
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of entries dropped because their object was garbage collected.
+     */
+
+    public static long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * Number of validated objects not remembered because the cache was full.
+     */
+
+    public static long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Current number of entries, including ones whose object has been
+     * collected but not yet dropped.
+     */
+
+    public static long size() {
+        return validated.mappingCount();
+    }
+
+    /**
+     * Drop all entries. Stats are kept.
+     */
+
+    public static void clear() {
+        validated.clear();
+        while (collected.poll() != null) {
+            // discard, the entries are gone already
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package name.heavycarbon.checks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Optional recording of the time spent in the "validate()" methods called by
+ * BasicChecks.validateIt(), per concrete class, into "LatencyHistogram"s.
+ *
+ *    ValidationTimings.setSampleEvery(100); // time one call in 100
+ *    ...
+ *    LatencyHistogram.Snapshot s = ValidationTimings.getSnapshot(Order.class);
+ *
+ * Recording is off until setSampleEvery() is called with a value > 0; while
+ * off, validateIt() pays a volatile read. While on, unsampled calls pay one
+ * random draw (ThreadLocalRandom, so threads do not contend) and sampled
+ * calls two clock reads and a histogram update; none of this allocates once
+ * the histogram of a class exists.
+ *
+ * Histograms are never removed. They hold on to the Class.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ ******************************************************************************/
+
+public class ValidationTimings {
+
+    private static volatile int sampleEvery; // 0 means "off"
+
+    private static final ConcurrentHashMap<Class<?>, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Time one in "every" calls to validate(); 1 times all of them, 0 switches
+     * recording off.
+     */
+
+    @SuppressWarnings("boxing")
+    public static void setSampleEvery(int every) {
+        BasicChecks.checkTrueOrThrow(every >= 0, "The 'every' is less than 0: {}", every);
+        sampleEvery = every;
+    }
+
+    public static int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    /**
+     * Decide whether the call about to happen is timed.
+     */
+
+    static boolean sample() {
+        int every = sampleEvery;
+        return every == 1 || (every > 1 && ThreadLocalRandom.current().nextInt(every) == 0);
+    }
+
+    static void record(Class<?> clazz, long nanos) {
+        LatencyHistogram histogram = histograms.get(clazz);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(clazz, c -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * The percentiles of the sampled validate() times of "clazz", or null if
+     * nothing has been recorded for it.
+     */
+
+    public static LatencyHistogram.Snapshot getSnapshot(Class<?> clazz) {
+        LatencyHistogram histogram = histograms.get(clazz);
+        return (histogram == null) ? null : histogram.snapshot();
+    }
+
+    /**
+     * The percentiles of all classes that have recorded times.
+     */
+
+    public static Map<Class<?>, LatencyHistogram.Snapshot> getSnapshots() {
+        Map<Class<?>, LatencyHistogram.Snapshot> res = new HashMap<>();
+        histograms.forEach((clazz, histogram) -> res.put(clazz, histogram.snapshot()));
+        return res;
+    }
+
+    /**
+     * Forget all recorded times (the histograms themselves are kept).
+     */
+
+    public static void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+}
@@ -0,0 +1,29 @@
+package name.heavycarbon.checks.contracts;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Contract: on an "int" or "long" parameter, a precondition that the argument
+ * is in [lowest, highest]; on a method returning "int" or "long", the same as
+ * a postcondition on the returned value. Checked with BasicChecks.checkTrue(),
+ * so a "CheckPolicy" that does not fail fast accumulates the failure and the
+ * call goes on.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Says how it is checked
+ ******************************************************************************/
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.METHOD })
+public @interface Between {
+
+    long lowest();
+
+    long highest();
+}
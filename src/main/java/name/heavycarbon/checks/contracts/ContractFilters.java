@@ -0,0 +1,115 @@
+package name.heavycarbon.checks.contracts;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+
+import name.heavycarbon.checks.BasicChecks;
+import name.heavycarbon.checks.CheckFailedException;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * The checks behind the contract annotations, as MethodHandle filters of type
+ * (T)T that return the checked value, so that they can be put in front of an
+ * argument or behind a return value with MethodHandles.filterArguments() and
+ * MethodHandles.filterReturnValue().
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+final class ContractFilters {
+
+    private static final MethodHandle NOT_NULL;
+    private static final MethodHandle NOT_EMPTY;
+    private static final MethodHandle VALID;
+    private static final MethodHandle BETWEEN_INT;
+    private static final MethodHandle BETWEEN_LONG;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodType objectFilter = MethodType.methodType(Object.class, String.class, Object.class);
+            NOT_NULL = lookup.findStatic(ContractFilters.class, "notNull", objectFilter);
+            NOT_EMPTY = lookup.findStatic(ContractFilters.class, "notEmpty", objectFilter);
+            VALID = lookup.findStatic(ContractFilters.class, "valid", objectFilter);
+            BETWEEN_INT = lookup.findStatic(ContractFilters.class, "between",
+                    MethodType.methodType(int.class, long.class, long.class, String.class, int.class));
+            BETWEEN_LONG = lookup.findStatic(ContractFilters.class, "between",
+                    MethodType.methodType(long.class, long.class, long.class, String.class, long.class));
+        } catch (ReflectiveOperationException exe) {
+            throw new ExceptionInInitializerError(exe);
+        }
+    }
+
+    private ContractFilters() {
+    }
+
+    static Object notNull(String name, Object x) {
+        return BasicChecks.checkNotNull(x, name);
+    }
+
+    static Object notEmpty(String name, Object x) {
+        return BasicChecks.checkNotNullAndNotEmpty(x, name);
+    }
+
+    static Object valid(String name, Object x) {
+        BasicChecks.checkNotNull(x, name);
+        return BasicChecks.validateIt(x);
+    }
+
+    @SuppressWarnings("boxing")
+    static int between(long lowest, long highest, String name, int x) {
+        BasicChecks.checkTrue(lowest <= x && x <= highest, "The int value '{}' is not in the range [{},{}]: {}", name, lowest, highest, x);
+        return x;
+    }
+
+    @SuppressWarnings("boxing")
+    static long between(long lowest, long highest, String name, long x) {
+        BasicChecks.checkTrue(lowest <= x && x <= highest, "The long value '{}' is not in the range [{},{}]: {}", name, lowest, highest, x);
+        return x;
+    }
+
+    /**
+     * The filter of type (type)type applying the contract annotations found on
+     * "element" (a parameter or a method, for its return value) in the order
+     * NotNull, NotEmpty, Between, Valid; null if there are none.
+     */
+
+    static MethodHandle filterFor(AnnotatedElement element, Class<?> type, String name) {
+        MethodHandle res = null;
+        if (element.isAnnotationPresent(NotNull.class)) {
+            res = andThen(res, objectFilter(NOT_NULL, type, name, NotNull.class));
+        }
+        if (element.isAnnotationPresent(NotEmpty.class)) {
+            res = andThen(res, objectFilter(NOT_EMPTY, type, name, NotEmpty.class));
+        }
+        Between between = element.getAnnotation(Between.class);
+        if (between != null) {
+            MethodHandle filter;
+            if (type == int.class) {
+                filter = BETWEEN_INT;
+            } else if (type == long.class) {
+                filter = BETWEEN_LONG;
+            } else {
+                throw new CheckFailedException("@Between on '" + name + "' of type " + type.getName() + ", only int and long are supported");
+            }
+            res = andThen(res, MethodHandles.insertArguments(filter, 0, between.lowest(), between.highest(), name));
+        }
+        if (element.isAnnotationPresent(Valid.class)) {
+            res = andThen(res, objectFilter(VALID, type, name, Valid.class));
+        }
+        return res;
+    }
+
+    private static MethodHandle objectFilter(MethodHandle filter, Class<?> type, String name, Class<?> annotation) {
+        if (type.isPrimitive()) {
+            throw new CheckFailedException("@" + annotation.getSimpleName() + " on '" + name + "' of primitive type " + type.getName());
+        }
+        return MethodHandles.insertArguments(filter, 0, name).asType(MethodType.methodType(type, type));
+    }
+
+    private static MethodHandle andThen(MethodHandle first, MethodHandle second) {
+        return (first == null) ? second : MethodHandles.filterReturnValue(first, second);
+    }
+}
@@ -0,0 +1,184 @@
+package name.heavycarbon.checks.contracts;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import name.heavycarbon.checks.BasicChecks;
+import name.heavycarbon.checks.CheckFailedException;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Design-by-contract for service interfaces. Annotate the parameters (for
+ * preconditions) and methods (for postconditions on the returned value) of a
+ * public interface with the contract annotations "NotNull", "NotEmpty",
+ * "Between" and "Valid", then wrap an implementation:
+ *
+ *    public interface Orders {
+ *       @NotNull Order find(@NotEmpty String id, @Between(lowest = 1, highest = 100) int version);
+ *    }
+ *
+ *    Orders orders = Contracts.wrap(Orders.class, new OrdersImpl());
+ *
+ * Every call to the wrapper checks the preconditions (with the "BasicChecks"
+ * methods named in the annotations), calls the implementation, then checks
+ * the postconditions.
+ *
+ * Unlike java.lang.reflect.Proxy, the wrapper does not go through an
+ * InvocationHandler with an Object[] of boxed arguments: for each interface
+ * a small class is generated (see "ProxyClassWriter") and defined as a hidden
+ * class with MethodHandles.Lookup.defineHiddenClassWithClassData(). Its
+ * methods call MethodHandles that are held in static final fields, so the JIT
+ * inlines the checks and the implementation's method into the caller and a
+ * call costs about as much as a hand-written wrapper.
+ *
+ * The generated class is created once per interface and cached. Methods of
+ * java.lang.Object (toString(), equals(), hashCode()) are not forwarded.
+ *
+ * By default, the class is defined in the class loader and package of
+ * "Contracts", so the interface and the types in its method signatures must
+ * be public and visible from there. For an interface of a child class loader
+ * (e.g. of a plugin) or with non-public parameter types, pass a Lookup of a
+ * class in the interface's package, and the class is defined there:
+ *
+ *    Orders orders = Contracts.wrap(MethodHandles.lookup(), Orders.class, new OrdersImpl());
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Argument checks throw also where failures are accumulated
+ * 2026.10.19 - Added wrap() with a Lookup, defining the class where it is given
+ ******************************************************************************/
+
+public class Contracts {
+
+    /**
+     * Per interface, the constructors of the generated classes, by the lookup
+     * class they were defined with.
+     */
+
+    private static final ClassValue<Map<Class<?>, MethodHandle>> constructors = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, MethodHandle> computeValue(Class<?> iface) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Wrap "target" in a wrapper enforcing the contracts of "iface", which
+     * must be a public interface. The wrapper class is defined in the class
+     * loader and package of "Contracts".
+     */
+
+    public static <I> I wrap(Class<I> iface, I target) {
+        return wrap(MethodHandles.lookup(), iface, target);
+    }
+
+    /**
+     * As wrap(Class, Object), but the wrapper class is defined with "lookup",
+     * i.e. in the class loader and package of its lookup class, which must
+     * see "iface" and the types in its method signatures. "lookup" must have
+     * full privilege access, as MethodHandles.lookup() has.
+     */
+
+    public static <I> I wrap(MethodHandles.Lookup lookup, Class<I> iface, I target) {
+        BasicChecks.checkNotNull(lookup, "lookup");
+        BasicChecks.checkNotNull(iface, "iface");
+        BasicChecks.checkNotNullAndInstanceOf(target, iface, "target");
+        MethodHandle constructor = constructors.get(iface).computeIfAbsent(lookup.lookupClass(), clazz -> generate(lookup, iface));
+        try {
+            return iface.cast(constructor.invoke(target));
+        } catch (Throwable t) {
+            throw new CheckFailedException("Could not instantiate the contract wrapper for " + iface.getName(), t);
+        }
+    }
+
+    private static MethodHandle generate(MethodHandles.Lookup lookup, Class<?> iface) {
+        if (!iface.isInterface() || !Modifier.isPublic(iface.getModifiers())) {
+            BasicChecks.checkFailed("The class '{}' is not a public interface", iface.getName());
+        }
+        if (!lookup.hasFullPrivilegeAccess()) {
+            BasicChecks.checkFailed("The lookup on '{}' does not have full privilege access", lookup.lookupClass().getName());
+        }
+        List<Method> methods = new ArrayList<>(methodsOf(iface));
+        List<MethodHandle> handles = new ArrayList<>(methods.size());
+        for (Method method : methods) {
+            try {
+                handles.add(handleFor(lookup, iface, method));
+            } catch (IllegalAccessException exe) {
+                throw new CheckFailedException("Cannot access " + method, exe);
+            }
+        }
+        String pkg = lookup.lookupClass().getPackageName();
+        String proxyName = pkg.isEmpty() ? "ContractProxy" : pkg.replace('.', '/') + "/ContractProxy";
+        byte[] bytes = ProxyClassWriter.write(proxyName, iface, methods);
+        try {
+            MethodHandles.Lookup hidden = lookup.defineHiddenClassWithClassData(bytes, List.copyOf(handles), true);
+            return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, iface))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (ReflectiveOperationException | LinkageError exe) {
+            // a LinkageError if the types of "iface" cannot be resolved or accessed from the lookup class
+            throw new CheckFailedException("Could not define the contract wrapper for " + iface.getName()
+                    + " in the class loader and package of " + lookup.lookupClass().getName(), exe);
+        }
+    }
+
+    /**
+     * The methods to implement: the non-static ones, one per signature.
+     */
+
+    private static Collection<Method> methodsOf(Class<?> iface) {
+        Map<String, Method> res = new LinkedHashMap<>();
+        for (Method method : iface.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                String key = method.getName() + MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+                res.putIfAbsent(key, method);
+            }
+        }
+        return res.values();
+    }
+
+    /**
+     * The handle of type (iface, params)ret: the call to "method" on the
+     * target, with the precondition filters on the arguments and the
+     * postcondition filter on the result.
+     */
+
+    private static MethodHandle handleFor(MethodHandles.Lookup lookup, Class<?> iface, Method method) throws IllegalAccessException {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        int slots = 1;
+        for (Class<?> type : paramTypes) {
+            slots += (type == long.class || type == double.class) ? 2 : 1;
+        }
+        if (slots >= 256) {
+            BasicChecks.checkFailed("The method '{}' has too many parameters for a contract wrapper", method);
+        }
+        MethodHandle res = lookup.unreflect(method)
+                .asType(MethodType.methodType(method.getReturnType(), paramTypes).insertParameterTypes(0, iface));
+        Parameter[] params = method.getParameters();
+        for (int i = 0; i < params.length; i++) {
+            MethodHandle filter = ContractFilters.filterFor(params[i], paramTypes[i], method.getName() + "(" + params[i].getName() + ")");
+            if (filter != null) {
+                res = MethodHandles.filterArguments(res, i + 1, filter);
+            }
+        }
+        if (method.getReturnType() != void.class) {
+            MethodHandle filter = ContractFilters.filterFor(method, method.getReturnType(), method.getName() + "() result");
+            if (filter != null) {
+                res = MethodHandles.filterReturnValue(res, filter);
+            }
+        } else {
+            if (ContractFilters.filterFor(method, Object.class, method.getName()) != null) {
+                BasicChecks.checkFailed("The void method '{}' has a postcondition", method);
+            }
+        }
+        return res;
+    }
+}
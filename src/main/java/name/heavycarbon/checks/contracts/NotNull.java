@@ -0,0 +1,22 @@
+package name.heavycarbon.checks.contracts;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Contract: on a parameter, a precondition that the argument is not null; on
+ * a method, a postcondition that the returned value is not null. Checked with
+ * BasicChecks.checkNotNull().
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.METHOD })
+public @interface NotNull {
+}
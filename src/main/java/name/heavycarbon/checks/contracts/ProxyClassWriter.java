@@ -0,0 +1,398 @@
+package name.heavycarbon.checks.contracts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ *******************************************************************************
+ * Writes the class file of a contract proxy for an interface "I". For the
+ * methods m0 .. mN-1 of "I" it generates, in Java terms:
+ *
+ *    final class ContractProxy implements I {
+ *
+ *       static final MethodHandle M0 = MethodHandles.classDataAt(MethodHandles.lookup(), "_", MethodHandle.class, 0);
+ *       ...
+ *       private final I target;
+ *
+ *       ContractProxy(I target) {
+ *          this.target = target;
+ *       }
+ *
+ *       public R0 m0(A a, B b) {
+ *          return (R0) M0.invokeExact(target, a, b);
+ *       }
+ *       ...
+ *    }
+ *
+ * The class is meant to be defined as a hidden class whose class data is the
+ * list of MethodHandles, each of type (I, params)ret and wrapping the call to
+ * "target" in the contract checks. As the handles sit in static final fields,
+ * the JIT treats them as constants and inlines checks and target method into
+ * the caller.
+ *
+ * The class file refers to "I" and to the types in the signatures of its
+ * methods by name. They are resolved through the class loader the class is
+ * defined in and must be accessible from its package ("internalName"), see
+ * Contracts.wrap(Lookup, Class, Object).
+ *
+ * The generated code has no branches, so no StackMapTable is needed. Only the
+ * few constant pool entry kinds and opcodes used are supported.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Documented where the class must be defined
+ ******************************************************************************/
+
+final class ProxyClassWriter {
+
+    private static final int CLASS_VERSION = 61; // Java 17
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ASTORE_0 = 0x4b;
+    private static final int ILOAD = 0x15;
+    private static final int LLOAD = 0x16;
+    private static final int FLOAD = 0x17;
+    private static final int DLOAD = 0x18;
+    private static final int ALOAD = 0x19;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int CHECKCAST = 0xc0;
+    private static final int LDC_W = 0x13;
+    private static final int SIPUSH = 0x11;
+
+    private static final String MH = "java/lang/invoke/MethodHandle";
+    private static final String MHS = "java/lang/invoke/MethodHandles";
+    private static final String LOOKUP_DESC = "Ljava/lang/invoke/MethodHandles$Lookup;";
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+    private int codeAttr;
+
+    private ProxyClassWriter() {
+    }
+
+    /**
+     * The class file bytes for a proxy named "internalName" (e.g.
+     * "name/heavycarbon/checks/contracts/ContractProxy") implementing "iface"
+     * with "methods".
+     */
+
+    static byte[] write(String internalName, Class<?> iface, List<Method> methods) {
+        try {
+            return new ProxyClassWriter().doWrite(internalName, iface, methods);
+        } catch (IOException exe) {
+            throw new UncheckedIOException(exe); // cannot happen with in-memory streams
+        }
+    }
+
+    private byte[] doWrite(String internalName, Class<?> iface, List<Method> methods) throws IOException {
+        String ifaceName = iface.getName().replace('.', '/');
+        String ifaceDesc = "L" + ifaceName + ";";
+        codeAttr = utf8("Code");
+        int thisClass = classRef(internalName);
+        int superClass = classRef("java/lang/Object");
+        int ifaceClass = classRef(ifaceName);
+        int targetField = fieldRef(internalName, "target", ifaceDesc);
+        //
+        // Methods and fields are written into their own buffers, as the pool
+        // grows meanwhile
+        //
+        ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(methodBytes);
+        int methodCount = 0;
+        //
+        // Constructor
+        //
+        {
+            Code code = new Code();
+            code.op(ALOAD_0);
+            code.op(INVOKESPECIAL).u2(methodRef("java/lang/Object", "<init>", "()V"));
+            code.op(ALOAD_0);
+            code.op(ALOAD_1);
+            code.op(PUTFIELD).u2(targetField);
+            code.op(RETURN);
+            writeMethod(out, 0, "<init>", "(" + ifaceDesc + ")V", code, 2, 2);
+            methodCount++;
+        }
+        //
+        // Static initializer, loading the MethodHandles from the class data
+        //
+        {
+            Code code = new Code();
+            code.op(INVOKESTATIC).u2(methodRef(MHS, "lookup", "()" + LOOKUP_DESC));
+            code.op(ASTORE_0);
+            int underscore = string("_");
+            int mhClass = classRef(MH);
+            int classDataAt = methodRef(MHS, "classDataAt", "(" + LOOKUP_DESC + "Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;");
+            for (int i = 0; i < methods.size(); i++) {
+                code.op(ALOAD_0);
+                code.op(LDC_W).u2(underscore);
+                code.op(LDC_W).u2(mhClass);
+                code.op(SIPUSH).u2(i);
+                code.op(INVOKESTATIC).u2(classDataAt);
+                code.op(CHECKCAST).u2(mhClass);
+                code.op(PUTSTATIC).u2(fieldRef(internalName, handleName(i), "L" + MH + ";"));
+            }
+            code.op(RETURN);
+            writeMethod(out, ACC_STATIC, "<clinit>", "()V", code, 4, 1);
+            methodCount++;
+        }
+        //
+        // The interface methods
+        //
+        for (int i = 0; i < methods.size(); i++) {
+            Method method = methods.get(i);
+            MethodType type = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+            Code code = new Code();
+            code.op(GETSTATIC).u2(fieldRef(internalName, handleName(i), "L" + MH + ";"));
+            code.op(ALOAD_0);
+            code.op(GETFIELD).u2(targetField);
+            int slot = 1;
+            for (Class<?> param : method.getParameterTypes()) {
+                code.op(loadOpcode(param)).u1(slot);
+                slot += slotSize(param);
+            }
+            String invokeDesc = type.insertParameterTypes(0, iface).toMethodDescriptorString();
+            code.op(INVOKEVIRTUAL).u2(methodRef(MH, "invokeExact", invokeDesc));
+            code.op(returnOpcode(method.getReturnType()));
+            int maxStack = Math.max(2 + (slot - 1), slotSize(method.getReturnType()));
+            writeMethod(out, ACC_PUBLIC | ACC_FINAL, method.getName(), type.toMethodDescriptorString(), code, maxStack, slot);
+            methodCount++;
+        }
+        //
+        // Fields
+        //
+        ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream();
+        DataOutputStream fields = new DataOutputStream(fieldBytes);
+        writeField(fields, ACC_PRIVATE | ACC_FINAL, "target", ifaceDesc);
+        for (int i = 0; i < methods.size(); i++) {
+            writeField(fields, ACC_STATIC | ACC_FINAL, handleName(i), "L" + MH + ";");
+        }
+        //
+        // Assemble
+        //
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+        DataOutputStream cls = new DataOutputStream(classBytes);
+        cls.writeInt(0xCAFEBABE);
+        cls.writeShort(0);
+        cls.writeShort(CLASS_VERSION);
+        pool.flush();
+        cls.writeShort(poolCount);
+        cls.write(poolBytes.toByteArray());
+        cls.writeShort(ACC_FINAL | ACC_SUPER);
+        cls.writeShort(thisClass);
+        cls.writeShort(superClass);
+        cls.writeShort(1);
+        cls.writeShort(ifaceClass);
+        cls.writeShort(1 + methods.size());
+        cls.write(fieldBytes.toByteArray());
+        cls.writeShort(methodCount);
+        cls.write(methodBytes.toByteArray());
+        cls.writeShort(0); // no class attributes
+        cls.flush();
+        return classBytes.toByteArray();
+    }
+
+    private static String handleName(int i) {
+        return "M" + i;
+    }
+
+    // ---
+    // Members
+    // ---
+
+    private void writeMethod(DataOutputStream out, int access, String name, String desc, Code code, int maxStack, int maxLocals) throws IOException {
+        out.writeShort(access);
+        out.writeShort(utf8(name));
+        out.writeShort(utf8(desc));
+        out.writeShort(1); // one attribute: Code
+        out.writeShort(codeAttr);
+        byte[] bytecode = code.bytes.toByteArray();
+        out.writeInt(2 + 2 + 4 + bytecode.length + 2 + 2);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(bytecode.length);
+        out.write(bytecode);
+        out.writeShort(0); // no exception table
+        out.writeShort(0); // no attributes
+    }
+
+    private void writeField(DataOutputStream out, int access, String name, String desc) throws IOException {
+        out.writeShort(access);
+        out.writeShort(utf8(name));
+        out.writeShort(utf8(desc));
+        out.writeShort(0);
+    }
+
+    private static int loadOpcode(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return ALOAD;
+        } else if (type == long.class) {
+            return LLOAD;
+        } else if (type == float.class) {
+            return FLOAD;
+        } else if (type == double.class) {
+            return DLOAD;
+        } else {
+            return ILOAD; // int, short, char, byte, boolean
+        }
+    }
+
+    private static int returnOpcode(Class<?> type) {
+        if (type == void.class) {
+            return RETURN;
+        } else if (!type.isPrimitive()) {
+            return ARETURN;
+        } else if (type == long.class) {
+            return LRETURN;
+        } else if (type == float.class) {
+            return FRETURN;
+        } else if (type == double.class) {
+            return DRETURN;
+        } else {
+            return IRETURN;
+        }
+    }
+
+    private static int slotSize(Class<?> type) {
+        if (type == void.class) {
+            return 0;
+        }
+        return (type == long.class || type == double.class) ? 2 : 1;
+    }
+
+    // ---
+    // Constant pool
+    // ---
+
+    private int utf8(String str) throws IOException {
+        Integer index = poolIndex.get("U" + str);
+        if (index == null) {
+            pool.writeByte(CONSTANT_UTF8);
+            pool.writeUTF(str);
+            index = poolCount++;
+            poolIndex.put("U" + str, index);
+        }
+        return index;
+    }
+
+    private int classRef(String internalName) throws IOException {
+        Integer index = poolIndex.get("C" + internalName);
+        if (index == null) {
+            int name = utf8(internalName);
+            pool.writeByte(CONSTANT_CLASS);
+            pool.writeShort(name);
+            index = poolCount++;
+            poolIndex.put("C" + internalName, index);
+        }
+        return index;
+    }
+
+    private int string(String str) throws IOException {
+        Integer index = poolIndex.get("S" + str);
+        if (index == null) {
+            int utf = utf8(str);
+            pool.writeByte(CONSTANT_STRING);
+            pool.writeShort(utf);
+            index = poolCount++;
+            poolIndex.put("S" + str, index);
+        }
+        return index;
+    }
+
+    private int nameAndType(String name, String desc) throws IOException {
+        String key = "N" + name + " " + desc;
+        Integer index = poolIndex.get(key);
+        if (index == null) {
+            int n = utf8(name);
+            int d = utf8(desc);
+            pool.writeByte(CONSTANT_NAME_AND_TYPE);
+            pool.writeShort(n);
+            pool.writeShort(d);
+            index = poolCount++;
+            poolIndex.put(key, index);
+        }
+        return index;
+    }
+
+    private int memberRef(int tag, String owner, String name, String desc) throws IOException {
+        String key = tag + owner + "." + name + " " + desc;
+        Integer index = poolIndex.get(key);
+        if (index == null) {
+            int c = classRef(owner);
+            int nt = nameAndType(name, desc);
+            pool.writeByte(tag);
+            pool.writeShort(c);
+            pool.writeShort(nt);
+            index = poolCount++;
+            poolIndex.put(key, index);
+        }
+        return index;
+    }
+
+    private int fieldRef(String owner, String name, String desc) throws IOException {
+        return memberRef(CONSTANT_FIELDREF, owner, name, desc);
+    }
+
+    private int methodRef(String owner, String name, String desc) throws IOException {
+        return memberRef(CONSTANT_METHODREF, owner, name, desc);
+    }
+
+    /**
+     * Bytecode of one method.
+     */
+
+    private static final class Code {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        Code u1(int value) {
+            bytes.write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+    }
+}
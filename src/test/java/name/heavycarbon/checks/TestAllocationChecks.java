@@ -0,0 +1,80 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "AllocationChecks" and "SampledAllocationCheck"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestAllocationChecks {
+
+    private static volatile Object sink;
+
+    @BeforeEach
+    void requireSupport() {
+        assumeTrue(AllocationChecks.isSupported(), "Per-thread allocation accounting is not available");
+    }
+
+    private static long sum(int[] values) {
+        long res = 0;
+        for (int v : values) {
+            res += v;
+        }
+        return res;
+    }
+
+    @Test
+    void allocationFreeSectionPasses() {
+        int[] values = new int[1000];
+        long mark = AllocationChecks.mark();
+        long res = sum(values);
+        // allow for a little slack (e.g. TLAB accounting granularity)
+        AllocationChecks.checkAllocatedAtMost(mark, 256, "sum");
+        assertEquals(0, res);
+    }
+
+    @Test
+    void allocatingSectionFails() {
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> AllocationChecks.checkAllocatedAtMost(1024, "big alloc", () -> sink = new byte[1024 * 1024]));
+        assertTrue(exe.getMessage().startsWith("The section 'big alloc' allocated "), exe.getMessage());
+    }
+
+    @Test
+    void sampledCheckThrowsWithoutListener() {
+        SampledAllocationCheck check = new SampledAllocationCheck("always", 1024, 1, null);
+        long mark = check.enter();
+        sink = new byte[64 * 1024];
+        assertThrows(CheckFailedException.class, () -> check.exit(mark));
+        assertEquals(1, check.getSampledCount());
+        assertEquals(1, check.getExceededCount());
+    }
+
+    @Test
+    void sampledCheckReportsToListener() {
+        List<Long> reports = new ArrayList<>();
+        SampledAllocationCheck check = new SampledAllocationCheck("sampled", 1024, 10, (c, bytes) -> reports.add(bytes));
+        int n = 10_000;
+        for (int i = 0; i < n; i++) {
+            long mark = check.enter();
+            sink = new byte[4 * 1024];
+            check.exit(mark);
+        }
+        long sampled = check.getSampledCount();
+        assertTrue(sampled > n / 20 && sampled < n / 5, "sampled " + sampled);
+        assertEquals(sampled, check.getExceededCount());
+        assertEquals(sampled, reports.size());
+    }
+}
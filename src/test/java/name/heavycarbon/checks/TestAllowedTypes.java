@@ -0,0 +1,118 @@
+package name.heavycarbon.checks;
+
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "AllowedTypes" and checkNotNullAndInstanceOfAny()
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Classes of other class loaders are not cached
+ ******************************************************************************/
+
+class TestAllowedTypes {
+
+    @Test
+    void acceptsSubclassesAndImplementations() {
+        AllowedTypes types = AllowedTypes.of(Number.class, CharSequence.class, RandomAccess.class);
+        assertTrue(types.accepts(Integer.class));
+        assertTrue(types.accepts(StringBuilder.class));
+        assertTrue(types.accepts(ArrayList.class));
+        assertFalse(types.accepts(LinkedList.class));
+        assertFalse(types.accepts(Object.class));
+        // answers are cached per class, and must stay the same
+        assertTrue(types.accepts(Integer.class));
+        assertFalse(types.accepts(LinkedList.class));
+        assertEquals("AllowedTypes[class java.lang.Number, interface java.lang.CharSequence, interface java.util.RandomAccess]",
+                types.toString());
+    }
+
+    @Test
+    void checkReturnsOrFails() {
+        AllowedTypes types = AllowedTypes.of(Number.class, CharSequence.class);
+        Long x = 12L;
+        assertSame(x, types.check(x, "x"));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> types.check(List.of(), "x"));
+        assertEquals("The Object 'x' is not of any of the classes ['java.lang.Number', 'java.lang.CharSequence'] but of "
+                + "unassignable class '" + List.of().getClass().getName() + "'", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> types.check(new Object()));
+        assertEquals("The unnamed Object is not of any of the classes ['java.lang.Number', 'java.lang.CharSequence'] but of "
+                + "unassignable class 'java.lang.Object'", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> types.check(null, "x"));
+        assertEquals("The Object 'x' is (null)", exe.getMessage());
+    }
+
+    @Test
+    void badClasses() {
+        assertThrows(CheckFailedException.class, () -> AllowedTypes.of());
+        assertThrows(CheckFailedException.class, () -> AllowedTypes.of((Class<?>[]) null));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> AllowedTypes.of(String.class, null));
+        assertEquals("The Class Object at index 1 is (null)", exe.getMessage());
+    }
+
+    @Test
+    void ofCopiesTheClasses() {
+        Class<?>[] classes = { String.class };
+        AllowedTypes types = AllowedTypes.of(classes);
+        classes[0] = Integer.class;
+        assertTrue(types.accepts(String.class));
+        assertFalse(types.accepts(Integer.class));
+    }
+
+    @Test
+    void varargsCheck() {
+        String s = "hello";
+        assertSame(s, BasicChecks.checkNotNullAndInstanceOfAny(s, Integer.class, Serializable.class));
+        assertSame(s, BasicChecks.checkNotNullAndInstanceOfAny(s, new Class<?>[] { CharSequence.class }, "s"));
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> BasicChecks.checkNotNullAndInstanceOfAny(s, new Class<?>[] { Integer.class, Long.class }, "s"));
+        assertEquals("The Object 's' is not of any of the classes ['java.lang.Integer', 'java.lang.Long'] but of unassignable "
+                + "class 'java.lang.String'", exe.getMessage());
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkNotNullAndInstanceOfAny(null, String.class));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkNotNullAndInstanceOfAny(s));
+    }
+
+    @Test
+    void cachedPerClassesInOrder() {
+        AllowedTypes a = AllowedTypes.cachedFor(new Class<?>[] { Integer.class, String.class });
+        assertSame(a, AllowedTypes.cachedFor(new Class<?>[] { Integer.class, String.class }));
+        AllowedTypes b = AllowedTypes.cachedFor(new Class<?>[] { String.class, Integer.class });
+        assertTrue(a != b);
+        // the cache must not hold on to the caller's array
+        Class<?>[] classes = { Short.class };
+        AllowedTypes c = AllowedTypes.cachedFor(classes);
+        classes[0] = Byte.class;
+        assertSame(c, AllowedTypes.cachedFor(new Class<?>[] { Short.class }));
+        assertTrue(c.accepts(Short.class));
+        assertFalse(c.accepts(Byte.class));
+    }
+
+    @Test
+    void classesOfOtherLoadersAreNotCached() throws Exception {
+        URL classes = TestAllowedTypes.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null)) {
+            Class<?> foreign = loader.loadClass(TestAllowedTypes.class.getName());
+            assertTrue(foreign != TestAllowedTypes.class);
+            AllowedTypes a = AllowedTypes.cachedFor(new Class<?>[] { String.class, foreign });
+            assertTrue(a != AllowedTypes.cachedFor(new Class<?>[] { String.class, foreign }));
+            assertTrue(a.accepts(foreign));
+            assertFalse(a.accepts(TestAllowedTypes.class));
+        }
+        AllowedTypes own = AllowedTypes.cachedFor(new Class<?>[] { String.class, TestAllowedTypes.class });
+        assertSame(own, AllowedTypes.cachedFor(new Class<?>[] { String.class, TestAllowedTypes.class }));
+    }
+}
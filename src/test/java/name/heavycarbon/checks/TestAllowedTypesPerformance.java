@@ -0,0 +1,118 @@
+package name.heavycarbon.checks;
+
+import org.junit.jupiter.api.Test;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Naive timing of a megamorphic instanceof check: objects of 12 concrete
+ * classes flow through one call site that accepts 4 interfaces, checked with
+ * a loop over Class.isInstance(), with checkNotNullAndInstanceOfAny() and
+ * with an AllowedTypes held in a static final field.
+ *
+ * On a small 1-core VM: loop 52 ns, checkNotNullAndInstanceOfAny() 28 ns
+ * (most of it the cache lookup of the classes), AllowedTypes 6 ns.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestAllowedTypesPerformance {
+
+    interface Text {
+    }
+
+    interface Binary {
+    }
+
+    interface Control {
+    }
+
+    interface Heartbeat {
+    }
+
+    static final class T1 implements Text {
+    }
+
+    static final class T2 implements Text {
+    }
+
+    static final class T3 implements Text {
+    }
+
+    static final class B1 implements Binary {
+    }
+
+    static final class B2 implements Binary {
+    }
+
+    static final class B3 implements Binary {
+    }
+
+    static final class C1 implements Control {
+    }
+
+    static final class C2 implements Control {
+    }
+
+    static final class C3 implements Control {
+    }
+
+    static final class H1 implements Heartbeat {
+    }
+
+    static final class H2 implements Heartbeat {
+    }
+
+    static final class H3 implements Heartbeat {
+    }
+
+    private static final Class<?>[] ALLOWED = { Text.class, Binary.class, Control.class, Heartbeat.class };
+
+    private static final AllowedTypes PAYLOADS = AllowedTypes.of(ALLOWED);
+
+    private static Object[] makeMessages() {
+        Object[] protos = { new T1(), new T2(), new T3(), new B1(), new B2(), new B3(), new C1(), new C2(), new C3(), new H1(),
+                new H2(), new H3() };
+        Object[] res = new Object[1024];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = protos[(i * 7) % protos.length];
+        }
+        return res;
+    }
+
+    private static void checkByLoop(Object x) {
+        for (Class<?> clazz : ALLOWED) {
+            if (clazz.isInstance(x)) {
+                return;
+            }
+        }
+        BasicChecks.checkFailed("Not allowed");
+    }
+
+    @Test
+    void timeMegamorphicCallSite() {
+        Object[] messages = makeMessages();
+        int rounds = 5_000_000;
+        long[] nanos = new long[3];
+        for (int pass = 0; pass < 2; pass++) { // the first pass warms up
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                checkByLoop(messages[r & 1023]);
+            }
+            nanos[0] = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                BasicChecks.checkNotNullAndInstanceOfAny(messages[r & 1023], Text.class, Binary.class, Control.class, Heartbeat.class);
+            }
+            nanos[1] = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                PAYLOADS.check(messages[r & 1023], "message");
+            }
+            nanos[2] = System.nanoTime() - start;
+        }
+        System.out.println("Average time for an instanceof check of 12 concrete classes against 4 interfaces: loop over isInstance() "
+                + String.format("%.1f", (double) nanos[0] / rounds) + " ns, checkNotNullAndInstanceOfAny() "
+                + String.format("%.1f", (double) nanos[1] / rounds) + " ns, AllowedTypes "
+                + String.format("%.1f", (double) nanos[2] / rounds) + " ns");
+    }
+}
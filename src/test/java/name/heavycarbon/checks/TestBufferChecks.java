@@ -0,0 +1,77 @@
+package name.heavycarbon.checks;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "BufferChecks"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestBufferChecks {
+
+    @Test
+    void remainingAtLeast() {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.position(8);
+        assertSame(bb, BufferChecks.checkRemainingAtLeast(bb, 8));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BufferChecks.checkRemainingAtLeast(bb, 9, "header"));
+        assertEquals("The java.nio.HeapByteBuffer 'header' has 8 remaining elements but at least 9 are needed (position 8, limit 16)", exe.getMessage());
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkRemainingAtLeast((ByteBuffer) null, 0));
+    }
+
+    @Test
+    void positionAndLimit() {
+        IntBuffer ib = IntBuffer.allocate(10);
+        ib.put(1).put(2).flip();
+        assertSame(ib, BufferChecks.checkPositionAndLimit(ib, 0, 2));
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkPositionAndLimit(ib, 0, 10));
+    }
+
+    @Test
+    void aligned() {
+        ByteBuffer bb = ByteBuffer.allocateDirect(64).alignedSlice(16);
+        assertSame(bb, BufferChecks.checkAligned(bb, 16));
+        bb.position(1);
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkAligned(bb, 2));
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkAligned(bb, 3));
+        // heap buffers do not support alignment checks on units larger than 8
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkAligned(ByteBuffer.allocate(64), 16));
+    }
+
+    @Test
+    void directAndHeap() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        ByteBuffer heap = ByteBuffer.allocate(8);
+        assertSame(direct, BufferChecks.checkDirect(direct));
+        assertSame(heap, BufferChecks.checkHeap(heap));
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkDirect(heap));
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkHeap(direct));
+    }
+
+    @Test
+    void readOnlyAndWritable() {
+        ByteBuffer rw = ByteBuffer.allocate(8);
+        ByteBuffer ro = rw.asReadOnlyBuffer();
+        assertSame(ro, BufferChecks.checkReadOnly(ro));
+        assertSame(rw, BufferChecks.checkWritable(rw));
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkReadOnly(rw));
+        assertThrows(CheckFailedException.class, () -> BufferChecks.checkWritable(ro, "output"));
+    }
+
+    @Test
+    void notNullAndNotEmptyHandlesBuffers() {
+        ByteBuffer bb = ByteBuffer.allocate(8);
+        BasicChecks.checkNotNullAndNotEmpty(bb);
+        bb.position(8);
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkNotNullAndNotEmpty(bb, "My Buffer"));
+    }
+}
@@ -0,0 +1,112 @@
+package name.heavycarbon.checks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "CheckMetrics" and "PrometheusExporter"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestCheckMetrics {
+
+    public static class Validatable {
+
+        private final boolean ok;
+
+        Validatable(boolean ok) {
+            this.ok = ok;
+        }
+
+        public boolean validate() {
+            return ok;
+        }
+    }
+
+    @BeforeEach
+    void enable() {
+        CheckMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void disable() {
+        CheckMetrics.setEnabled(false);
+    }
+
+    @Test
+    void failuresAreCountedByKindAndThrownType() {
+        long checkFailed = CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class);
+        long index = CheckMetrics.getFailureCount(FailureRecorder.Kind.INDEX, CheckFailedException.class);
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "nope {}", 1));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "nope {}", 2));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(5, 3));
+        assertEquals(checkFailed + 2, CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class));
+        assertEquals(index + 1, CheckMetrics.getFailureCount(FailureRecorder.Kind.INDEX, CheckFailedException.class));
+    }
+
+    @Test
+    void nothingIsCountedWhenDisabled() {
+        CheckMetrics.setEnabled(false);
+        long before = CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class);
+        long formatted = CheckMetrics.getFormattingCount();
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "nope {}", 1));
+        assertEquals(before, CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class));
+        assertEquals(formatted, CheckMetrics.getFormattingCount());
+    }
+
+    @Test
+    void validationsAreCountedByClass() {
+        BasicChecks.validateIt(new Validatable(true));
+        BasicChecks.validateIt(new Validatable(true));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.validateIt(new Validatable(false)));
+        assertEquals(3, CheckMetrics.getValidationCount(Validatable.class));
+        assertEquals(1, CheckMetrics.getValidationFailureCount(Validatable.class));
+    }
+
+    @Test
+    void formattingIsCounted() {
+        long count = CheckMetrics.getFormattingCount();
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "value {}", 42));
+        assertTrue(CheckMetrics.getFormattingCount() > count);
+    }
+
+    @Test
+    void exporterServesTextFormat() throws Exception {
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "nope"));
+        try (PrometheusExporter exporter = PrometheusExporter.start(0)) {
+            HttpClient client = HttpClient.newHttpClient();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + exporter.getPort() + "/metrics")).build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain; version=0.0.4"));
+            String body = response.body();
+            assertTrue(body.contains("# TYPE checks_failures_total counter\n"));
+            assertTrue(body.contains("checks_failures_total{kind=\"CHECK_FAILED\",exception=\"" + CheckFailedException.class.getName() + "\"} "));
+            assertTrue(body.contains("# TYPE checks_formatting_nanoseconds_total counter\n"));
+            assertTrue(body.endsWith("\n"));
+        }
+    }
+
+    @Test
+    void renderingMatchesCounters() throws Exception {
+        BasicChecks.validateIt(new Validatable(true));
+        try (PrometheusExporter exporter = PrometheusExporter.start(0)) {
+            String text = exporter.renderToString();
+            String line = "checks_validate_invocations_total{class=\"" + Validatable.class.getName() + "\"} "
+                    + CheckMetrics.getValidationCount(Validatable.class) + "\n";
+            assertTrue(text.contains(line), text);
+        }
+    }
+}
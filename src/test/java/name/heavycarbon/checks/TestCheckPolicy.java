@@ -0,0 +1,130 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "CheckPolicy"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Checks that cannot carry on throw also when accumulating
+ ******************************************************************************/
+
+class TestCheckPolicy {
+
+    private static final CheckPolicy ACCUMULATE = new CheckPolicy(false, true, true, 1);
+
+    @Test
+    void defaultIsStrict() {
+        assertSame(CheckPolicy.STRICT, CheckPolicy.current());
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "value {}", 42));
+        assertEquals("value 42", exe.getMessage());
+        assertTrue(exe.getStackTrace().length > 0);
+    }
+
+    @Test
+    void bindingIsScoped() {
+        CheckPolicy policy = new CheckPolicy(true, false, true, 1);
+        CheckPolicy.runWith(policy, () -> {
+            assertSame(policy, CheckPolicy.current());
+            CheckPolicy.runWith(CheckPolicy.STRICT, () -> assertSame(CheckPolicy.STRICT, CheckPolicy.current()));
+            assertSame(policy, CheckPolicy.current());
+        });
+        assertSame(CheckPolicy.STRICT, CheckPolicy.current());
+    }
+
+    @Test
+    void withoutStackTraces() {
+        CheckPolicy.runWith(new CheckPolicy(true, false, true, 1), () -> {
+            CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "x"));
+            assertEquals(0, exe.getStackTrace().length);
+        });
+    }
+
+    @Test
+    void withoutRendering() {
+        CheckPolicy.runWith(new CheckPolicy(true, true, false, 1), () -> {
+            CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "value {}", 42));
+            assertEquals("value {}", exe.getMessage());
+        });
+    }
+
+    @Test
+    void accumulate() {
+        int[] reached = new int[1];
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> CheckPolicy.runWith(ACCUMULATE, () -> {
+            BasicChecks.checkTrue(false, "first {}", 1);
+            BasicChecks.checkFalse(true, "second");
+            BasicChecks.checkTrue(true, "never");
+            reached[0] = 1;
+        }));
+        assertEquals(1, reached[0]);
+        assertEquals(2, exe.getSuppressed().length);
+        assertTrue(exe.getMessage().startsWith("2 checks failed, the first one: first 1"), exe.getMessage());
+        assertSame(CheckPolicy.STRICT, CheckPolicy.current());
+    }
+
+    /**
+     * Checks that the following code relies on throw also when accumulating,
+     * carrying what was accumulated before.
+     */
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "boxing" })
+    void checksThatCannotCarryOnStillThrow() {
+        int[] reached = new int[1];
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> CheckPolicy.runWith(ACCUMULATE, () -> {
+            BasicChecks.checkTrue(false, "first");
+            BasicChecks.checkNotNull(null, "second");
+            reached[0] = 1;
+        }));
+        assertEquals(0, reached[0]);
+        assertEquals("The Object 'second' is (null)", exe.getMessage());
+        assertEquals(1, exe.getSuppressed().length);
+        CheckPolicy.runWith(ACCUMULATE, () -> {
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkNotNullAndNotEmpty(new ArrayList<>()));
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkNotNullAndNotEmpty(null));
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkElementIndex(0, (List) null));
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkNotNull(null, "x {}", 1));
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkFailed("direct"));
+        });
+    }
+
+    @Test
+    void accumulateNothing() throws Exception {
+        assertEquals("ok", CheckPolicy.callWith(ACCUMULATE, () -> "ok"));
+    }
+
+    @Test
+    void accumulatedAreAttachedToWhatIsThrown() {
+        IllegalStateException exe = assertThrows(IllegalStateException.class, () -> CheckPolicy.runWith(ACCUMULATE, () -> {
+            BasicChecks.checkTrue(false, "first");
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, exe.getSuppressed().length);
+    }
+
+    @Test
+    void metricsSampling() {
+        CheckMetrics.setEnabled(true);
+        try {
+            long before = CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class);
+            CheckPolicy.runWith(new CheckPolicy(true, false, false, 0), () -> {
+                for (int i = 0; i < 10; i++) {
+                    assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "x"));
+                }
+            });
+            assertEquals(before, CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class));
+        } finally {
+            CheckMetrics.setEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package name.heavycarbon.checks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "ConcurrentChecks"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - An interrupted caller cancels the checks
+ ******************************************************************************/
+
+class TestConcurrentChecks {
+
+    private static Runnable sleeping(long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException exe) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    void runsConcurrently() {
+        long start = System.nanoTime();
+        ConcurrentChecks.runAll(ConcurrentChecks.Mode.FAIL_FAST, sleeping(300), sleeping(300), sleeping(300), sleeping(300));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 1000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void failFastCancelsTheRest() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Runnable slow = () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException exe) {
+                interrupted.set(true);
+            }
+        };
+        long start = System.nanoTime();
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ConcurrentChecks.runAll(ConcurrentChecks.Mode.FAIL_FAST,
+                slow, () -> BasicChecks.checkTrue(false, "broken {}", 1)));
+        assertEquals("broken 1", exe.getMessage());
+        assertTrue(interrupted.get());
+        assertTrue((System.nanoTime() - start) < 5_000_000_000L);
+    }
+
+    @Test
+    void interruptedCallerCancelsTheChecks() throws InterruptedException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicBoolean flagKept = new AtomicBoolean();
+        Runnable slow = () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException exe) {
+                cancelled.set(true);
+            }
+        };
+        Thread caller = new Thread(() -> {
+            try {
+                ConcurrentChecks.runAll(ConcurrentChecks.Mode.COLLECT, slow, slow);
+            } catch (CheckFailedException exe) {
+                flagKept.set(Thread.currentThread().isInterrupted() && exe.getCause() instanceof InterruptedException);
+            }
+        });
+        long start = System.nanoTime();
+        caller.start();
+        Thread.sleep(200);
+        caller.interrupt();
+        caller.join(5_000);
+        assertFalse(caller.isAlive());
+        assertTrue((System.nanoTime() - start) < 5_000_000_000L);
+        assertTrue(cancelled.get());
+        assertTrue(flagKept.get());
+    }
+
+    @Test
+    void collectGathersAll() {
+        AtomicInteger ran = new AtomicInteger();
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ConcurrentChecks.runAll(ConcurrentChecks.Mode.COLLECT,
+                () -> BasicChecks.checkTrue(false, "first"),
+                ran::incrementAndGet,
+                () -> BasicChecks.checkNotNull(null, "third")));
+        assertEquals(1, ran.get());
+        assertEquals(2, exe.getSuppressed().length);
+        assertEquals("first", exe.getSuppressed()[0].getMessage());
+        assertTrue(exe.getMessage().startsWith("2 of 3 concurrent checks failed"), exe.getMessage());
+    }
+
+    @Test
+    void allPass() {
+        AtomicInteger ran = new AtomicInteger();
+        ConcurrentChecks.runAll(ConcurrentChecks.Mode.COLLECT, ran::incrementAndGet, ran::incrementAndGet);
+        ConcurrentChecks.runAll(ConcurrentChecks.Mode.COLLECT);
+        assertEquals(2, ran.get());
+    }
+
+    @Test
+    void policyAndBudgetArePassedOn() {
+        CheckPolicy policy = new CheckPolicy(true, false, true, 1);
+        Budget budget = Budget.start(Duration.ofHours(1));
+        CheckPolicy.runWith(policy, () -> Budget.runWith(budget, () ->
+                ConcurrentChecks.runAll(ConcurrentChecks.Mode.FAIL_FAST, () -> {
+                    assertSame(policy, CheckPolicy.current());
+                    assertSame(budget, Budget.current());
+                })));
+    }
+
+    @Test
+    void accumulatingPolicyCollectsFromSubtasks() {
+        CheckPolicy accumulate = new CheckPolicy(false, true, true, 1);
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> CheckPolicy.runWith(accumulate, () ->
+                ConcurrentChecks.runAll(ConcurrentChecks.Mode.FAIL_FAST,
+                        () -> BasicChecks.checkTrue(false, "a"),
+                        () -> BasicChecks.checkTrue(false, "b"))));
+        assertEquals(2, exe.getSuppressed().length);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
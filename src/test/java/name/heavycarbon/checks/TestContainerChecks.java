@@ -0,0 +1,200 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import name.heavycarbon.checks.ContainerChecks.SortOrder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "ContainerChecks"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Sortedness and distinctness
+ * 2026.10.19 - Partitioned distinctness
+ * 2026.10.19 - Arrays containing themselves
+ ******************************************************************************/
+
+class TestContainerChecks {
+
+    private static List<String> bigList(int nullAt) {
+        List<String> res = new ArrayList<>(Collections.nCopies(ContainerChecks.PARALLEL_THRESHOLD * 4, "x"));
+        if (nullAt >= 0) {
+            res.set(nullAt, null);
+        }
+        return res;
+    }
+
+    @Test
+    void collections() {
+        List<String> ok = bigList(-1);
+        assertSame(ok, ContainerChecks.checkNoNullElements(ok, "ok"));
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> ContainerChecks.checkNoNullElements(bigList(200_000), "big"));
+        assertEquals("The java.util.ArrayList 'big' contains (null) at index 200000", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class,
+                () -> ContainerChecks.checkNoNullElements(new LinkedList<>(Arrays.asList("a", null, "c")), "small"));
+        assertEquals("The java.util.LinkedList 'small' contains (null) at index 1", exe.getMessage());
+        assertThrows(CheckFailedException.class, () -> ContainerChecks.checkNoNullElements((List<?>) null, "none"));
+    }
+
+    @Test
+    void nestedArrays() {
+        Object[][] ok = { { "a", "b" }, { "c" } };
+        ContainerChecks.checkNoNullElements(ok, "ok");
+        Object[] nested = { "a", new Object[] { "b", new Object[] { "c", null } } };
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkNoNullElements(nested, "nested"));
+        assertEquals("The java.lang.Object[] 'nested' contains (null) at [1][1][1]", exe.getMessage());
+        String[] big = bigList(-1).toArray(new String[0]);
+        ContainerChecks.checkNoNullElements(big, null);
+        big[big.length - 1] = null;
+        exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkNoNullElements(big, null));
+        assertEquals("The unnamed java.lang.String[] contains (null) at [" + (big.length - 1) + "]", exe.getMessage());
+    }
+
+
+    @Test
+    void arraysContainingThemselves() {
+        Object[] self = { "a", null, "c" };
+        self[1] = self;
+        assertSame(self, ContainerChecks.checkNoNullElements(self, "self"));
+        Object[] inner = { "b", null };
+        Object[] outer = { "a", inner, null };
+        inner[1] = outer;
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkNoNullElements(outer, "outer"));
+        assertEquals("The java.lang.Object[] 'outer' contains (null) at [2]", exe.getMessage());
+        Object[] big = new Object[200_000];
+        Arrays.fill(big, big);
+        assertSame(big, ContainerChecks.checkNoNullElements(big, "big"));
+    }
+    @Test
+    @SuppressWarnings("boxing")
+    void maps() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", null);
+        map.put("c", null);
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkNoNullValues(map, "m"));
+        assertEquals("The java.util.LinkedHashMap 'm' has a (null) value for key 'b'", exe.getMessage());
+        ContainerChecks.checkNoNullKeys(map, "m");
+        Map<String, Integer> withNullKey = new HashMap<>();
+        withNullKey.put(null, 1);
+        assertThrows(CheckFailedException.class, () -> ContainerChecks.checkNoNullKeys(withNullKey, "m"));
+        Map<Integer, Integer> big = new ConcurrentHashMap<>();
+        for (int i = 0; i < ContainerChecks.PARALLEL_THRESHOLD * 2; i++) {
+            big.put(i, i);
+        }
+        ContainerChecks.checkNoNullKeys(big, "big");
+        ContainerChecks.checkNoNullValues(big, "big");
+    }
+
+    @Test
+    void sortedSmall() {
+        int[] ints = { 1, 2, 2, 3 };
+        ContainerChecks.checkSorted(ints, SortOrder.ASCENDING, "ints");
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkSorted(ints, SortOrder.STRICTLY_ASCENDING, "ints"));
+        assertEquals("The int[] 'ints' is not sorted strictly ascending: [1] = 2 is followed by [2] = 2", exe.getMessage());
+        ContainerChecks.checkSorted(new double[] { 3.0, 0.0, -0.0, Double.NEGATIVE_INFINITY }, SortOrder.STRICTLY_DESCENDING);
+        assertThrows(CheckFailedException.class, () -> ContainerChecks.checkSorted(new double[] { Double.NaN, 1.0 }, SortOrder.ASCENDING));
+        ContainerChecks.checkSorted(new long[0], SortOrder.ASCENDING);
+        ContainerChecks.checkSorted(List.of("a", "b", "c"), SortOrder.STRICTLY_ASCENDING, "names");
+        exe = assertThrows(CheckFailedException.class,
+                () -> ContainerChecks.checkSorted(new LinkedList<>(List.of("c", "b", "d")), SortOrder.DESCENDING, "names"));
+        assertEquals("The java.util.LinkedList 'names' is not sorted descending: [1] = b is followed by [2] = d", exe.getMessage());
+    }
+
+    @Test
+    void sortedLargeInParallel() {
+        long[] stamps = LongStream.range(0, ContainerChecks.PARALLEL_THRESHOLD * 16L).map(i -> i * 10).toArray();
+        ContainerChecks.checkSorted(stamps, SortOrder.STRICTLY_ASCENDING, "stamps");
+        // violations at a chunk boundary and further on: the first one is reported
+        int boundary = ContainerChecks.PARALLEL_THRESHOLD * 4 - 1;
+        stamps[boundary + 1] = stamps[boundary];
+        stamps[stamps.length - 1] = 0;
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> ContainerChecks.checkSorted(stamps, SortOrder.STRICTLY_ASCENDING, "stamps"));
+        assertEquals("The long[] 'stamps' is not sorted strictly ascending: [" + boundary + "] = " + stamps[boundary] + " is followed by ["
+                + (boundary + 1) + "] = " + stamps[boundary], exe.getMessage());
+        List<Integer> list = IntStream.range(0, ContainerChecks.PARALLEL_THRESHOLD * 2).boxed().toList();
+        ContainerChecks.checkSorted(list, SortOrder.ASCENDING);
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void distinct() {
+        ContainerChecks.checkDistinct(new int[] { 0, 1, -1, Integer.MIN_VALUE }, "ids");
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkDistinct(new int[] { 5, 0, 7, 0, 5 }, "ids"));
+        assertEquals("The int[] 'ids' contains 0 more than once, at [1] and [3]", exe.getMessage());
+        ContainerChecks.checkDistinct(new double[] { 0.0, -0.0 });
+        assertThrows(CheckFailedException.class, () -> ContainerChecks.checkDistinct(new double[] { Double.NaN, 1.0, Double.NaN }));
+        exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkDistinct(Arrays.asList("a", null, "b", null), "names"));
+        assertEquals("The java.util.Arrays$ArrayList 'names' contains null more than once, at [1] and [3]", exe.getMessage());
+        ContainerChecks.checkDistinct(List.of("a", "b"));
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void distinctLargeInParallel() {
+        int n = ContainerChecks.PARALLEL_THRESHOLD * 32;
+        long[] ids = LongStream.range(0, n).map(i -> i * 7919).toArray();
+        ContainerChecks.checkDistinct(ids, "ids");
+        ids[n - 10] = ids[n / 2];
+        ids[n - 3] = ids[17];
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> ContainerChecks.checkDistinct(ids, "ids"));
+        assertEquals("The long[] 'ids' contains " + ids[n / 2] + " more than once, at [" + (n / 2) + "] and [" + (n - 10) + "]", exe.getMessage());
+        List<Integer> list = new ArrayList<>(IntStream.range(0, n).boxed().toList());
+        ContainerChecks.checkDistinct(list, "list");
+        list.set(n - 1, 3);
+        assertThrows(CheckFailedException.class, () -> ContainerChecks.checkDistinct(list, "list"));
+    }
+
+    @Test
+    void longHashSet() {
+        LongHashSet set = new LongHashSet(1000);
+        for (long v = -500; v < 500; v++) {
+            assertEquals(true, set.add(v * 31));
+        }
+        assertEquals(false, set.add(0));
+        assertEquals(true, set.contains(-31));
+        assertEquals(false, set.contains(1));
+        assertEquals(1000, set.size());
+        assertEquals(false, set.isOffHeap());
+        assertEquals(true, new LongHashSet(LongHashSet.OFF_HEAP_BYTES / Long.BYTES / 2).isOffHeap());
+        assertThrows(CheckFailedException.class, () -> new LongHashSet(LongHashSet.MAX_SIZE + 1));
+    }
+
+    /**
+     * Partitioned distinctness checks must find the same first repeat as the
+     * sequential one, whatever the number of partitions.
+     */
+
+    @Test
+    void partitionedFirstRepeat() {
+        int n = 200_000;
+        long[] values = new Random(42).longs(n, 0, 3L * n).toArray();
+        int expected = ContainerChecks.firstRepeat(n, i -> values[i], 1);
+        assertTrue(expected > 0);
+        for (int partitions : new int[] { 2, 7, 64, 256 }) {
+            assertEquals(expected, ContainerChecks.firstRepeat(n, i -> values[i], partitions), "partitions " + partitions);
+        }
+        long[] distinct = LongStream.range(0, n).map(i -> i * 7).toArray();
+        assertEquals(-1, ContainerChecks.firstRepeat(n, i -> distinct[i], 13));
+    }
+}
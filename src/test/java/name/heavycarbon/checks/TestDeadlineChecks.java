@@ -0,0 +1,108 @@
+package name.heavycarbon.checks;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "DeadlineChecks" and "Budget" with a fake clock
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Message of checkRemainingAtLeast()
+ ******************************************************************************/
+
+class TestDeadlineChecks {
+
+    private static class FakeClock implements NanoClock {
+
+        private final AtomicLong now = new AtomicLong(1_000L);
+        private int reads;
+
+        @Override
+        public long nanoTime() {
+            reads++;
+            return now.get();
+        }
+
+        void advance(long nanos) {
+            now.addAndGet(nanos);
+        }
+    }
+
+    @Test
+    void passesWithinBudget() {
+        FakeClock clock = new FakeClock();
+        Budget budget = Budget.start(100, clock);
+        clock.advance(99);
+        assertEquals(1, DeadlineChecks.checkWithinDeadline(budget));
+    }
+
+    @Test
+    void failsAtDeadlineWithElapsedAndRemaining() {
+        FakeClock clock = new FakeClock();
+        Budget budget = Budget.start(100, clock);
+        clock.advance(130);
+        DeadlineExceededException exe = assertThrows(DeadlineExceededException.class,
+                () -> DeadlineChecks.checkWithinDeadline(budget, "after lookup"));
+        assertEquals(130, exe.getElapsedNanos());
+        assertEquals(-30, exe.getRemainingNanos());
+        assertEquals("Latency budget of 100 ns exceeded at checkpoint 'after lookup': elapsed 130 ns, remaining -30 ns", exe.getMessage());
+    }
+
+    @Test
+    void oneClockReadPerCheck() {
+        FakeClock clock = new FakeClock();
+        Budget budget = Budget.start(100, clock);
+        int before = clock.reads;
+        DeadlineChecks.checkWithinDeadline(budget);
+        assertEquals(before + 1, clock.reads);
+        clock.advance(200);
+        assertThrows(DeadlineExceededException.class, () -> DeadlineChecks.checkWithinDeadline(budget));
+        assertEquals(before + 2, clock.reads);
+    }
+
+    @Test
+    void remainingAtLeast() {
+        FakeClock clock = new FakeClock();
+        Budget budget = Budget.start(100, clock);
+        clock.advance(50);
+        assertEquals(50, DeadlineChecks.checkRemainingAtLeast(budget, 50, "before call"));
+        DeadlineExceededException exe = assertThrows(DeadlineExceededException.class,
+                () -> DeadlineChecks.checkRemainingAtLeast(budget, 51, "before call"));
+        assertEquals("Latency budget of 100 ns too short at checkpoint 'before call': needs 51 ns but only 50 ns remain (elapsed 50 ns)",
+                exe.getMessage());
+        assertEquals(50, exe.getRemainingNanos());
+    }
+
+    @Test
+    void boundBudgetIsUsedAndUnbound() {
+        FakeClock clock = new FakeClock();
+        Budget outer = Budget.start(100, clock);
+        Budget inner = Budget.start(10, clock);
+        assertNull(Budget.current());
+        DeadlineChecks.checkWithinDeadline(); // no budget bound, passes
+        Budget.runWith(outer, () -> {
+            assertSame(outer, Budget.current());
+            Budget.runWith(inner, () -> {
+                clock.advance(20);
+                assertThrows(DeadlineExceededException.class, DeadlineChecks::checkWithinDeadline);
+            });
+            assertSame(outer, Budget.current());
+            DeadlineChecks.checkWithinDeadline("outer");
+        });
+        assertNull(Budget.current());
+    }
+
+    @Test
+    void isACheckFailedException() {
+        FakeClock clock = new FakeClock();
+        Budget budget = Budget.start(0, clock);
+        assertThrows(CheckFailedException.class, () -> DeadlineChecks.checkWithinDeadline(budget));
+    }
+}
@@ -0,0 +1,52 @@
+package name.heavycarbon.checks;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Not a real test case, just something to quickly/naively measure the
+ * per-check overhead of DeadlineChecks.checkWithinDeadline() on the system
+ * clock, explicit vs. bound budget, relative to a bare System.nanoTime().
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestDeadlinePerformance {
+
+    private static long sink;
+
+    @Test
+    void perCheckOverhead() {
+        int n = 2_000_000;
+        int rounds = 5;
+        Budget budget = Budget.start(Duration.ofHours(1));
+        long[] totals = new long[3];
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sink += System.nanoTime();
+            }
+            totals[0] += System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sink += DeadlineChecks.checkWithinDeadline(budget);
+            }
+            totals[1] += System.nanoTime() - start;
+            long[] localTotal = new long[1];
+            Budget.runWith(budget, () -> {
+                long s = System.nanoTime();
+                for (int i = 0; i < n; i++) {
+                    DeadlineChecks.checkWithinDeadline();
+                }
+                localTotal[0] = System.nanoTime() - s;
+            });
+            totals[2] += localTotal[0];
+        }
+        String[] what = {"bare System.nanoTime()", "checkWithinDeadline(budget)", "checkWithinDeadline() on bound budget"};
+        for (int c = 0; c < what.length; c++) {
+            System.out.println("Average time for " + what[c] + ": " + ((double) totals[c] / ((long) rounds * n)) + " ns");
+        }
+    }
+}
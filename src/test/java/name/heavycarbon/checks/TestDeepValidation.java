@@ -0,0 +1,157 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "DeepValidation"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Failures follow the CheckPolicy
+ ******************************************************************************/
+
+class TestDeepValidation {
+
+    public static class Product {
+
+        private final String name;
+        final AtomicInteger validations = new AtomicInteger();
+
+        Product(String name) {
+            this.name = name;
+        }
+
+        public boolean validate() {
+            validations.incrementAndGet();
+            return name != null;
+        }
+    }
+
+    public static class Line {
+
+        private final Product product;
+        private final int quantity;
+
+        Line(Product product, int quantity) {
+            this.product = product;
+            this.quantity = quantity;
+        }
+
+        public boolean validate() {
+            return quantity > 0;
+        }
+    }
+
+    public static class Order {
+
+        private final List<Line> lines = new ArrayList<>();
+        private final Map<String, Object> extras = new HashMap<>();
+        Order parent; // for cycles
+
+        public boolean validate() {
+            return true;
+        }
+    }
+
+    public static class SpecialOrder extends Order {
+
+        private Product[][] bonus;
+
+        @Override
+        public boolean validate() {
+            return true;
+        }
+    }
+
+    public static class Chain {
+
+        Chain next;
+
+        public boolean validate() {
+            return true;
+        }
+    }
+
+    @Test
+    void validGraphWithSharingAndCycle() {
+        Product shared = new Product("bolt");
+        Order order = new Order();
+        order.lines.add(new Line(shared, 1));
+        order.lines.add(new Line(shared, 2));
+        order.extras.put("gift", new Line(shared, 3));
+        order.parent = order;
+        assertSame(order, DeepValidation.validateDeep(order));
+        assertEquals(1, shared.validations.get());
+    }
+
+    @Test
+    void pathToFailingNode() {
+        Order order = new Order();
+        order.lines.add(new Line(new Product("bolt"), 1));
+        order.lines.add(new Line(new Product(null), 2));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> DeepValidation.validateDeep(order));
+        assertTrue(exe.getMessage().startsWith("Deep validation failed at 'root.lines[1].product': Validation of object of type"), exe.getMessage());
+        assertInstanceOf(CheckFailedException.class, exe.getCause());
+        Order other = new Order();
+        other.extras.put("gift", new Line(new Product("nut"), 0));
+        exe = assertThrows(CheckFailedException.class, () -> DeepValidation.validateDeep(other));
+        assertTrue(exe.getMessage().startsWith("Deep validation failed at 'root.extras['gift']'"), exe.getMessage());
+        // the failure goes through checkFailed(), so it follows the CheckPolicy
+        CheckPolicy.runWith(new CheckPolicy(true, false, true, 1), () -> {
+            CheckFailedException unstacked = assertThrows(CheckFailedException.class, () -> DeepValidation.validateDeep(order));
+            assertEquals(0, unstacked.getStackTrace().length);
+            assertInstanceOf(CheckFailedException.class, unstacked.getCause());
+        });
+    }
+
+    @Test
+    void superclassFieldsAndNestedArrays() {
+        SpecialOrder order = new SpecialOrder();
+        order.bonus = new Product[][] { { new Product("a") }, { new Product("b"), new Product(null) } };
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> DeepValidation.validateDeep(order));
+        assertTrue(exe.getMessage().startsWith("Deep validation failed at 'root.bonus[1][1]'"), exe.getMessage());
+    }
+
+    @Test
+    void depthLimit() {
+        Chain head = new Chain();
+        Chain tail = head;
+        for (int i = 0; i < 10; i++) {
+            tail.next = new Chain();
+            tail = tail.next;
+        }
+        DeepValidation.validateDeep(head, 10);
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> DeepValidation.validateDeep(head, 9));
+        assertEquals("Deep validation stopped at 'root.next.next.next.next.next.next.next.next.next.next': the graph is deeper than the limit of 9",
+                exe.getMessage());
+    }
+
+    @Test
+    void wideGraphInParallel() {
+        Order order = new Order();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < DeepValidation.PARALLEL_THRESHOLD * 20; i++) {
+            Product product = new Product("p" + i);
+            products.add(product);
+            order.lines.add(new Line(product, 1));
+        }
+        DeepValidation.validateDeep(order);
+        assertTrue(products.stream().allMatch(p -> p.validations.get() == 1));
+        int bad = DeepValidation.PARALLEL_THRESHOLD * 13 + 5;
+        order.lines.set(bad, new Line(new Product(null), 1));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> DeepValidation.validateDeep(order));
+        assertTrue(exe.getMessage().startsWith("Deep validation failed at 'root.lines[" + bad + "].product'"), exe.getMessage());
+    }
+}
@@ -0,0 +1,107 @@
+package name.heavycarbon.checks;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "DuplicateDetector"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - False-positive rate at high load
+ ******************************************************************************/
+
+class TestDuplicateDetector {
+
+    @Test
+    void duplicateInWindowFails() {
+        DuplicateDetector detector = DuplicateDetector.forKeys("ids", 10_000, 0.01, 100);
+        for (long key = 0; key < 50; key++) {
+            detector.checkUnique(key);
+        }
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> detector.checkUnique(10L));
+        assertEquals("The duplicate detector 'ids' has seen the key '10' before, 40 keys ago", exe.getMessage());
+        assertEquals(1, detector.getDuplicateCount());
+        assertEquals(51, detector.getKeyCount());
+    }
+
+    @Test
+    void duplicateBeyondWindowIsSuspected() {
+        DuplicateDetector detector = DuplicateDetector.forKeys("ids", 10_000, 0.001, 100);
+        for (long key = 0; key < 1000; key++) {
+            detector.checkUnique(key * 1_000_003);
+        }
+        long suspectedBefore = detector.getSuspectedCount();
+        detector.checkUnique(0L); // 1000 keys ago, out of the window
+        assertEquals(suspectedBefore + 1, detector.getSuspectedCount());
+        assertEquals(0, detector.getDuplicateCount());
+        // ... but now it is in the window again
+        assertThrows(CheckFailedException.class, () -> detector.checkUnique(0L));
+    }
+
+    @Test
+    void byteKeys() {
+        DuplicateDetector detector = DuplicateDetector.withFilterSize("names", 1 << 16, 1000);
+        for (int i = 0; i < 500; i++) {
+            detector.checkUnique(("name-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        assertThrows(CheckFailedException.class, () -> detector.checkUnique("name-17".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(DuplicateDetector.hash(new byte[] { 1, 2, 3 }) != DuplicateDetector.hash(new byte[] { 1, 2, 3, 0 }));
+        assertTrue(DuplicateDetector.hash(new byte[9]) != DuplicateDetector.hash(new byte[10]));
+    }
+
+    @Test
+    void windowEvictsUnderChurn() {
+        // many keys passing through a small window must not disturb lookups
+        DuplicateDetector detector = DuplicateDetector.forKeys("churn", 1_000_000, 0.01, 64);
+        for (long key = 0; key < 1_000_000; key++) {
+            detector.checkUnique(key);
+            if (key % 1000 == 999) {
+                long again = key - 62;
+                assertThrows(CheckFailedException.class, () -> detector.checkUnique(again));
+            }
+        }
+        assertEquals(1000, detector.getDuplicateCount());
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void falsePositiveRate() {
+        long n = 1_000_000;
+        int probes = 20_000;
+        DuplicateDetector detector = DuplicateDetector.forKeys("fpr", n, 0.01, 1024);
+        // fill up to just below capacity, then count the suspects among new keys that bring it to capacity
+        for (long key = 0; key < n - probes; key++) {
+            detector.checkUnique(key);
+        }
+        long suspectedBefore = detector.getSuspectedCount();
+        for (long key = n - probes; key < n; key++) {
+            detector.checkUnique(key);
+        }
+        double measured = (double) (detector.getSuspectedCount() - suspectedBefore) / probes;
+        double formula = detector.getFalsePositiveRate();
+        System.out.println(String.format("False-positive rate at capacity: measured %.4f, formula %.4f, %d bytes", measured, formula,
+                detector.getFilterBytes()));
+        assertTrue(formula <= 0.0101, "formula: " + formula);
+        assertTrue(measured < 0.0125, "measured: " + measured);
+        assertEquals(0, detector.getDuplicateCount());
+    }
+
+    @Test
+    void falsePositiveRateAtHighLoad() {
+        double previous = 0;
+        for (double keysPerBlock : new double[] { 0, 0.001, 1, 10, 100, 700, 744, 746, 1000, 4095, 4096, 1e6, 1e12, Double.POSITIVE_INFINITY }) {
+            double rate = DuplicateDetector.falsePositiveRate(keysPerBlock);
+            assertTrue(rate >= previous && rate <= 1.0, keysPerBlock + " keys per block: " + rate);
+            previous = rate;
+        }
+        assertEquals(0.0, DuplicateDetector.falsePositiveRate(0));
+        assertTrue(DuplicateDetector.falsePositiveRate(746) > 0.9999);
+        assertEquals(1.0, DuplicateDetector.falsePositiveRate(1e12));
+    }
+}
@@ -0,0 +1,37 @@
+package name.heavycarbon.checks;
+
+import org.junit.jupiter.api.Test;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Naive timing of DuplicateDetector.checkUnique() on a stream of distinct long
+ * keys, with a filter (about 120 MB) larger than the caches.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestDuplicateDetectorPerformance {
+
+    @Test
+    void timeCheckUnique() {
+        long n = 100_000_000L;
+        DuplicateDetector detector = DuplicateDetector.forKeys("perf", n, 0.01, 65536);
+        int rounds = 5;
+        int perRound = 10_000_000;
+        long key = 0;
+        // warm up
+        for (int i = 0; i < perRound; i++) {
+            detector.checkUnique(key++ * 0x9e3779b97f4a7c15L);
+        }
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < perRound; i++) {
+                detector.checkUnique(key++ * 0x9e3779b97f4a7c15L);
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        double perKey = (double) nanos / (rounds * (long) perRound);
+        System.out.println("Average time for checkUnique(long): " + String.format("%.1f", perKey) + " ns, or "
+                + String.format("%.1f", 1000 / perKey) + " million keys per second (" + detector + ")");
+    }
+}
@@ -0,0 +1,75 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "EqualityChecks"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestEqualityChecks {
+
+    @Test
+    void primitiveArrays() {
+        int[] expected = IntStream.range(0, 5000).toArray();
+        int[] actual = expected.clone();
+        assertSame(actual, EqualityChecks.checkArrayEquals(expected, actual, "xs"));
+        actual[1234] = -1;
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> EqualityChecks.checkArrayEquals(expected, actual, "xs"));
+        assertEquals("The int[] 'xs' differs from the expected at index 1234 (length 5000, expected 5000): "
+                + "expected [... 1226, 1227, 1228, 1229, 1230, 1231, 1232, 1233, >1234<, 1235, 1236, 1237, 1238, 1239, 1240, 1241, 1242 ...], "
+                + "actual [... 1226, 1227, 1228, 1229, 1230, 1231, 1232, 1233, >-1<, 1235, 1236, 1237, 1238, 1239, 1240, 1241, 1242 ...]",
+                exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> EqualityChecks.checkArrayEquals(new byte[] { 1, 2 }, new byte[] { 1, 2, 3 }));
+        assertEquals("The unnamed byte[] differs from the expected at index 2 (length 3, expected 2): expected [1, 2, >(end)<], actual [1, 2, >3<]",
+                exe.getMessage());
+        EqualityChecks.checkArrayEquals(new double[] { Double.NaN }, new double[] { Double.NaN });
+        assertThrows(CheckFailedException.class, () -> EqualityChecks.checkArrayEquals(new double[] { 0.0 }, new double[] { -0.0 }));
+        EqualityChecks.checkArrayEquals((long[]) null, null);
+        exe = assertThrows(CheckFailedException.class, () -> EqualityChecks.checkArrayEquals(new long[0], null, "ls"));
+        assertEquals("The long[] 'ls' is (null)", exe.getMessage());
+    }
+
+    @Test
+    void objectArraysAndLists() {
+        String[] expected = { "a", "b", "c" };
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> EqualityChecks.checkArrayEquals(expected, new String[] { "a", "x", "c" }, "names"));
+        assertEquals("The java.lang.String[] 'names' differs from the expected at index 1 (length 3, expected 3): expected [a, >b<, c], actual [a, >x<, c]",
+                exe.getMessage());
+        List<Integer> list = IntStream.range(0, 100).boxed().collect(Collectors.toCollection(ArrayList::new));
+        EqualityChecks.checkEquals(new LinkedList<>(list), list, "list");
+        List<Integer> shorter = new LinkedList<>(list.subList(0, 50));
+        exe = assertThrows(CheckFailedException.class, () -> EqualityChecks.checkEquals(list, shorter, "list"));
+        assertEquals("The java.util.LinkedList 'list' differs from the expected at index 50 (length 50, expected 100): "
+                + "expected [... 42, 43, 44, 45, 46, 47, 48, 49, >50<, 51, 52, 53, 54, 55, 56, 57, 58 ...], "
+                + "actual [... 42, 43, 44, 45, 46, 47, 48, 49, >(end)<]", exe.getMessage());
+        EqualityChecks.checkEquals(Arrays.asList(1, null), Arrays.asList(1, null));
+    }
+
+    @Test
+    void charSequences() {
+        EqualityChecks.checkEquals("hello", new StringBuilder("hello"));
+        String expected = "The quick brown fox jumps over the lazy dog";
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> EqualityChecks.checkEquals(expected, "The quick brown cat jumps over the lazy dog", "text"));
+        assertEquals("The java.lang.String 'text' differs from the expected at index 16 (length 43, expected 43): "
+                + "expected \"...k brown >f<ox jumps...\", actual \"...k brown >c<at jumps...\"", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> EqualityChecks.checkEquals("abc", "ab"));
+        assertEquals("The unnamed java.lang.String differs from the expected at index 2 (length 2, expected 3): expected \"ab>c<\", actual \"ab>(end)<\"",
+                exe.getMessage());
+    }
+}
@@ -0,0 +1,144 @@
+package name.heavycarbon.checks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "FailureRecorder" and "FailureRecordDecoder"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Bad slot counts throw also when accumulating
+ ******************************************************************************/
+
+class TestFailureRecorder {
+
+    @Test
+    void recordAndDecode(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ring.bin");
+        try (FailureRecorder recorder = new FailureRecorder(file, 16)) {
+            recorder.record(FailureRecorder.Kind.CHECK_FAILED, 42, "The value {} is not {}", "x", 17);
+            recorder.record(FailureRecorder.Kind.INDEX, 43, "Grüße, {}", "Wörld 😀");
+        }
+        List<FailureRecordDecoder.Record> records = FailureRecordDecoder.decode(file);
+        assertEquals(2, records.size());
+        FailureRecordDecoder.Record r0 = records.get(0);
+        assertEquals(0, r0.sequence());
+        assertEquals(42, r0.callSiteId());
+        assertEquals(FailureRecorder.Kind.CHECK_FAILED, r0.kind());
+        assertEquals("The value {} is not {}", r0.template());
+        assertEquals(List.of("x", "17"), r0.args());
+        assertEquals("Grüße, {}", records.get(1).template());
+        assertEquals(List.of("Wörld 😀"), records.get(1).args());
+    }
+
+    @Test
+    void longContentIsTruncatedToTheSlot(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ring.bin");
+        String longText = "x".repeat(10_000);
+        try (FailureRecorder recorder = new FailureRecorder(file, 4)) {
+            recorder.record(FailureRecorder.Kind.OTHER, longText, longText, longText, longText, longText);
+        }
+        FailureRecordDecoder.Record record = FailureRecordDecoder.decode(file).get(0);
+        assertTrue(record.template().length() <= 120);
+        int total = record.template().length();
+        for (String arg : record.args()) {
+            total += arg.length() + 2;
+        }
+        assertTrue(total <= FailureRecorder.SLOT_SIZE - FailureRecorder.SLOT_OFF_PAYLOAD);
+    }
+
+    @Test
+    void ringKeepsTheLatestRecords(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ring.bin");
+        try (FailureRecorder recorder = new FailureRecorder(file, 8)) {
+            for (int i = 0; i < 20; i++) {
+                recorder.record(FailureRecorder.Kind.OTHER, "record {}", i);
+            }
+        }
+        List<FailureRecordDecoder.Record> records = FailureRecordDecoder.decode(file);
+        assertEquals(8, records.size());
+        assertEquals(12, records.get(0).sequence());
+        assertEquals(List.of("19"), records.get(7).args());
+    }
+
+    @Test
+    void reopeningContinuesTheRing(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ring.bin");
+        // not closed, as after a crash; the mapping has the data anyway
+        FailureRecorder first = new FailureRecorder(file, 8);
+        first.record(FailureRecorder.Kind.OTHER, "before");
+        try (FailureRecorder second = new FailureRecorder(file, 8)) {
+            assertEquals(1, second.getWriteCount());
+            second.record(FailureRecorder.Kind.OTHER, "after");
+        }
+        List<FailureRecordDecoder.Record> records = FailureRecordDecoder.decode(file);
+        assertEquals(List.of("before", "after"), records.stream().map(FailureRecordDecoder.Record::template).toList());
+        first.close();
+    }
+
+    @Test
+    void concurrentWritersDoNotLoseRecords(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ring.bin");
+        int threads = 4;
+        int perThread = 1000;
+        try (FailureRecorder recorder = new FailureRecorder(file, threads * perThread)) {
+            List<Thread> list = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String name = "t" + t;
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        recorder.record(FailureRecorder.Kind.OTHER, name, i);
+                    }
+                });
+                list.add(thread);
+                thread.start();
+            }
+            for (Thread thread : list) {
+                thread.join();
+            }
+        }
+        List<FailureRecordDecoder.Record> records = FailureRecordDecoder.decode(file);
+        assertEquals(threads * perThread, records.size());
+        Set<String> distinct = new HashSet<>();
+        for (FailureRecordDecoder.Record record : records) {
+            distinct.add(record.template() + "/" + record.args().get(0));
+        }
+        assertEquals(threads * perThread, distinct.size());
+    }
+
+    @Test
+    void installedRecorderSeesCheckFailures(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ring.bin");
+        try (FailureRecorder recorder = new FailureRecorder(file, 8)) {
+            FailureRecorder.install(recorder);
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkTrue(false, "Bad value {}", 99));
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(5, 5));
+        } finally {
+            FailureRecorder.install(null);
+        }
+        List<FailureRecordDecoder.Record> records = FailureRecordDecoder.decode(file);
+        assertEquals(2, records.size());
+        assertEquals(FailureRecorder.Kind.CHECK_FAILED, records.get(0).kind());
+        assertEquals("Bad value {}", records.get(0).template());
+        assertEquals(FailureRecorder.Kind.INDEX, records.get(1).kind());
+    }
+
+    @Test
+    void badSlotCountThrowsEvenWhenAccumulating(@TempDir Path dir) {
+        CheckPolicy.runWith(new CheckPolicy(false, true, true, 1), () -> {
+            assertThrows(CheckFailedException.class, () -> new FailureRecorder(dir.resolve("zero.ring"), 0));
+            assertThrows(CheckFailedException.class, () -> new FailureRecorder(dir.resolve("negative.ring"), -5));
+        });
+    }
+}
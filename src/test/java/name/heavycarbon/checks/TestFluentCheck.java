@@ -0,0 +1,103 @@
+package name.heavycarbon.checks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing the fluent "Check"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - between() on BigInteger, BigDecimal and other Numbers
+ * 2026.10.19 - (null) and wrong classes throw when accumulating; notEmpty() noted once
+ ******************************************************************************/
+
+class TestFluentCheck {
+
+    @Test
+    void passingChainReturnsTheValue() {
+        Object x = "hello";
+        String s = Check.that(x, "x").notNull().instanceOf(String.class).notEmpty().satisfies(v -> v.startsWith("h"), "startsWithH").get();
+        assertSame(x, s);
+        assertEquals(5, Check.that(5, "n").between(0, 10).get());
+        assertEquals(0.5, Check.that(0.5).between(0.0, 1.0).get());
+    }
+
+    @Test
+    void betweenComparesBigNumbersExactly() {
+        BigInteger wraps = BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(5)); // longValue() is 5
+        assertThrows(CheckFailedException.class, () -> Check.that(wraps, "n").between(0, 10));
+        assertEquals(BigInteger.TEN, Check.that(BigInteger.TEN, "n").between(0, 10).get());
+        assertThrows(CheckFailedException.class, () -> Check.that(new BigDecimal("10.0000000000000000001"), "d").between(0, 10));
+        assertThrows(CheckFailedException.class, () -> Check.that(new BigDecimal("1e30"), "d").between(0, 10));
+        assertEquals(new BigDecimal("9.99"), Check.that(new BigDecimal("9.99"), "d").between(0, 10).get());
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> Check.that(new DoubleAdder(), "a").between(0, 10));
+        assertEquals("The value 'a' fails step 1, between(0, 10): it is a Number of class 'java.util.concurrent.atomic.DoubleAdder',"
+                + " which cannot be compared exactly", exe.getMessage());
+    }
+
+    @Test
+    void failingStepsAreNamed() {
+        Object x = 42;
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> Check.that(x, "x").notNull().instanceOf(String.class));
+        assertEquals("The value 'x' fails step 2, instanceOf(java.lang.String): it is of class 'java.lang.Integer'", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that(null).notNull());
+        assertEquals("The unnamed value fails step 1, notNull: it is (null)", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that(11, "n").between(0, 10));
+        assertEquals("The value 'n' fails step 1, between(0, 10): it is 11", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that(10.5, "d").between(0, 10));
+        assertEquals("The value 'd' fails step 1, between(0, 10): it is 10.5", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that("a", "s").between(0, 10));
+        assertEquals("The value 's' fails step 1, between(0, 10): it is not a Number but of class 'java.lang.String'", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that(Double.NaN, "d").between(0.0, 1.0));
+        assertEquals("The value 'd' fails step 1, between(0.0, 1.0): it is NaN", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that(new ArrayList<>(), "list").notEmpty());
+        assertEquals("The value 'list' fails step 1, notEmpty: it is empty", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> Check.that("abc", "s").satisfies(v -> v.length() > 3, "longerThan3"));
+        assertEquals("The value 's' fails step 1, longerThan3: it is 'abc'", exe.getMessage());
+    }
+
+    @Test
+    void accumulatingPolicySkipsLaterSteps() {
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> CheckPolicy.runWith(new CheckPolicy(false, true, true, 1),
+                () -> Check.that(11, "x").between(0, 10).satisfies(n -> n < 0, "negative")));
+        assertEquals(1, exe.getSuppressed().length);
+        assertEquals("The value 'x' fails step 1, between(0, 10): it is 11", exe.getMessage());
+    }
+
+    @Test
+    void nullAndWrongClassThrowEvenWhenAccumulating() {
+        CheckPolicy policy = new CheckPolicy(false, true, true, 1);
+        List<Object> got = new ArrayList<>();
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> CheckPolicy.runWith(policy, () -> got.add(Check.that(null, "x").notNull().instanceOf(String.class).get())));
+        assertEquals("The value 'x' fails step 1, notNull: it is (null)", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class,
+                () -> CheckPolicy.runWith(policy, () -> got.add(Check.that((Object) 5, "x").notNull().instanceOf(String.class).get())));
+        assertEquals("The value 'x' fails step 2, instanceOf(java.lang.String): it is of class 'java.lang.Integer'", exe.getMessage());
+        assertTrue(got.isEmpty(), got.toString());
+    }
+
+    @Test
+    void failedNotEmptyIsCountedOnce() {
+        CheckMetrics.setEnabled(true);
+        try {
+            long before = CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class);
+            assertThrows(CheckFailedException.class, () -> Check.that("", "s").notEmpty());
+            assertEquals(before + 1, CheckMetrics.getFailureCount(FailureRecorder.Kind.CHECK_FAILED, CheckFailedException.class));
+        } finally {
+            CheckMetrics.setEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package name.heavycarbon.checks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Not a real test case, just something to quickly/naively measure time and
+ * allocation per passing check chain: the fluent "Check" vs. the equivalent
+ * sequence of static calls to "BasicChecks". Once C2 has compiled the loop,
+ * the fluent chain should allocate nothing (on JVMs that can tell), which is
+ * asserted for the last round as "less than one byte per chain".
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Asserts the work done and the allocation of the last round
+ ******************************************************************************/
+
+class TestFluentCheckPerformance {
+
+    private static final Object[] values = {"a", "bb", "ccc", "dddd"};
+    private static long sink;
+
+    private static void fluent(Object x) {
+        sink += Check.that(x, "x").notNull().instanceOf(String.class).satisfies(s -> s.length() < 10, "short").get().length();
+    }
+
+    private static void statics(Object x) {
+        BasicChecks.checkNotNull(x, "x");
+        String s = (String) BasicChecks.checkNotNullAndInstanceOf(x, String.class, "x");
+        BasicChecks.checkTrue(s.length() < 10, "The 'x' is not short");
+        sink += s.length();
+    }
+
+    @Test
+    void fluentVersusStatic() {
+        sink = 0;
+        int n = 2_000_000;
+        int rounds = 5;
+        long[] totals = new long[2];
+        long[] allocated = new long[2];
+        for (int round = 0; round < rounds; round++) {
+            long mark = AllocationChecks.mark();
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                fluent(values[i & 3]);
+            }
+            totals[0] += System.nanoTime() - start;
+            allocated[0] = AllocationChecks.allocatedSince(mark);
+            mark = AllocationChecks.mark();
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                statics(values[i & 3]);
+            }
+            totals[1] += System.nanoTime() - start;
+            allocated[1] = AllocationChecks.allocatedSince(mark);
+        }
+        String[] what = {"fluent Check", "static BasicChecks calls"};
+        for (int c = 0; c < what.length; c++) {
+            System.out.println("Average time for " + what[c] + ": " + ((double) totals[c] / ((long) rounds * n)) + " ns");
+            if (allocated[c] != AllocationChecks.NOT_SUPPORTED) {
+                System.out.println("Bytes allocated per " + what[c] + " in the last round: " + ((double) allocated[c] / n));
+            }
+        }
+        assertEquals(2L * rounds * (n / 4) * (1 + 2 + 3 + 4), sink);
+        if (allocated[0] != AllocationChecks.NOT_SUPPORTED) {
+            assertTrue(allocated[0] < n, "The fluent Check allocated " + allocated[0] + " bytes for " + n + " chains");
+        }
+    }
+}
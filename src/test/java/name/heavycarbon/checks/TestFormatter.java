@@ -1,8 +1,15 @@
 package name.heavycarbon.checks;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /* 34567890123456789012345678901234567890123456789012345678901234567890123456789
  * *****************************************************************************
@@ -13,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  * 2015.08.07 - Namespace changed from "com.example" to "name.heavycarbon.checks"
  * 2024.06.20 - Updated to Java 21 and JUnit 5, and fixed according to IDE
  *              suggestions.
+ * 2026.10.19 - Added tests for bounded rendering of arguments
+ * 2026.10.19 - Small Collections and Maps render as by toString()
  ******************************************************************************/
 
 class TestFormatter {
@@ -46,4 +55,100 @@ class TestFormatter {
     void slf4jPlaceholderReplacementWithPercentages() {
         assertEquals("xy%%%sz", Formatter.replaceSlf4JPlaceholders("xy%{}z"));
     }
+
+    @Test
+    void hugeListIsSummarized() {
+        List<Integer> list = Collections.nCopies(10_000_000, 7);
+        String res = Formatter.formatForMe("list: {}", list);
+        assertTrue(res.startsWith("list: java.util.Collections$CopiesList(size=10000000)[7, 7, "), res);
+        assertTrue(res.endsWith(", ...]"), res);
+        assertTrue(res.length() < 200, res);
+    }
+
+    @Test
+    void smallListIsRenderedAsByToString() {
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+        assertEquals("list: [a, b]", Formatter.formatForMe("list: {}", list));
+        Map<String, List<Integer>> map = new TreeMap<>(Map.of("x", List.of(1, 2), "y", List.of()));
+        assertEquals(map.toString(), ArgRenderer.render(map, RenderPolicy.DEFAULT));
+    }
+
+    @Test
+    void smallListThatDoesNotFitIsSummarized() {
+        List<String> list = new ArrayList<>(List.of("0123456789", "0123456789", "0123456789"));
+        assertEquals("[0123456789, 0123456789, 0123456789]", ArgRenderer.render(list, new RenderPolicy(40, 8192, 16, 32)));
+        assertEquals("java.util.ArrayList(size=3)[01...", ArgRenderer.render(list, new RenderPolicy(30, 8192, 16, 32)));
+    }
+
+    @Test
+    void mapIsSummarized() {
+        Map<String, Integer> map = new TreeMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(String.format("k%03d", i), i);
+        }
+        RenderPolicy policy = new RenderPolicy(1024, 8192, 2, 8);
+        assertEquals("java.util.TreeMap(size=100){k000=0, k001=1, ...}", ArgRenderer.render(map, policy));
+    }
+
+    @Test
+    void byteArrayHasHexPreview() {
+        byte[] bytes = new byte[1024 * 1024];
+        bytes[0] = (byte) 0xCA;
+        bytes[1] = (byte) 0xFE;
+        RenderPolicy policy = new RenderPolicy(1024, 8192, 2, 4);
+        assertEquals("byte[1048576]{hex:cafe0000...}", ArgRenderer.render(bytes, policy));
+    }
+
+    @Test
+    void intArrayIsSummarized() {
+        RenderPolicy policy = new RenderPolicy(1024, 8192, 3, 4);
+        assertEquals("int[5]{1, 2, 3, ...}", ArgRenderer.render(new int[]{1, 2, 3, 4, 5}, policy));
+        assertEquals("int[0]{}", ArgRenderer.render(new int[0], policy));
+    }
+
+    @Test
+    void selfContainingListDoesNotRecurse() {
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        assertEquals("[(this Collection)]", ArgRenderer.render(list, RenderPolicy.DEFAULT));
+    }
+
+    @Test
+    void longStringIsCutPerArgument() {
+        RenderPolicy policy = new RenderPolicy(10, 8192, 16, 32);
+        assertEquals("0123456789...", ArgRenderer.render("0123456789ABCDEF", policy));
+    }
+
+    @Test
+    void messageIsCutAsAWhole() {
+        RenderPolicy old = Formatter.getRenderPolicy();
+        try {
+            Formatter.setRenderPolicy(new RenderPolicy(10, 25, 16, 32));
+            String res = Formatter.formatForMe("{} {} {} {}", "0123456789", "0123456789", "0123456789", "0123456789");
+            assertEquals("0123456789 0123456789 012...", res);
+        } finally {
+            Formatter.setRenderPolicy(old);
+        }
+    }
+
+    @Test
+    void errorFallbackIsBounded() {
+        List<Integer> list = Collections.nCopies(10_000_000, 7);
+        String res = Formatter.formatForMe("bad: %d", list);
+        assertTrue(res.startsWith("Exception 'java.util.IllegalFormatConversionException'"), res);
+        assertTrue(res.length() < 500, res);
+    }
+
+    @Test
+    void throwingToStringIsRendered() {
+        Object obj = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException();
+            }
+        };
+        String res = Formatter.formatForMe("obj: {}", obj);
+        assertTrue(res.startsWith("obj: (toString() of "), res);
+        assertTrue(res.endsWith(" threw java.lang.IllegalStateException)"), res);
+    }
 }
@@ -0,0 +1,113 @@
+package name.heavycarbon.checks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "HeadroomChecks". The harness deliberately allocates and retains a
+ * block of memory to move the heap's free fraction, then releases it. The
+ * assertions do not rely on System.gc() collecting anything: retained memory
+ * is used whether or not garbage has been collected, and collections are
+ * brought about by allocating.
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Independent of System.gc(); thresholds are restored
+ ******************************************************************************/
+
+class TestHeadroomChecks {
+
+    private static final int CHUNK = 1024 * 1024;
+
+    private static volatile byte[] sink;
+
+    @AfterEach
+    void cleanup() {
+        HeadroomChecks.uninstall();
+    }
+
+    /**
+     * Retain about "fraction" of the maximum heap, capped at 256 MiB
+     */
+
+    private static List<byte[]> allocate(double fraction) {
+        long bytes = Math.min((long) (Runtime.getRuntime().maxMemory() * fraction), 256L * CHUNK);
+        List<byte[]> res = new ArrayList<>();
+        for (long done = 0; done < bytes; done += CHUNK) {
+            res.add(new byte[CHUNK]);
+        }
+        return res;
+    }
+
+    @Test
+    void passesBeforeAnythingIsKnown() {
+        HeadroomChecks.checkHeapHeadroom(0.0);
+        HeadroomChecks.checkHeadroom(HeadroomChecks.Pool.METASPACE, 0.0);
+    }
+
+    @Test
+    void allocationMovesTheHeadroom() {
+        long max = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+        assumeTrue(max > 0, "The heap has no defined maximum");
+        List<byte[]> retained = allocate(0.2);
+        double drop = (double) retained.size() * CHUNK / max;
+        double during = HeadroomChecks.refresh().heapFree();
+        // the retained chunks are in use, so at most the rest can be free
+        assertTrue(during <= 1.0 - drop, "during " + during + ", drop " + drop);
+        assertThrows(CheckFailedException.class, () -> HeadroomChecks.checkHeapHeadroom(1.0 - drop / 2));
+        Reference.reachabilityFence(retained);
+    }
+
+    @Test
+    void gcNotificationsUpdateTheSnapshot() throws InterruptedException {
+        HeadroomChecks.install(0.9);
+        long seq = HeadroomChecks.getSnapshot().sequence();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (HeadroomChecks.getSnapshot().sequence() == seq && System.currentTimeMillis() < deadline) {
+            for (int i = 0; i < 64; i++) {
+                sink = new byte[CHUNK]; // garbage, until a collection happens
+            }
+            Thread.sleep(10);
+        }
+        assertTrue(HeadroomChecks.getSnapshot().sequence() > seq, "No notification arrived");
+    }
+
+    @Test
+    void uninstallRestoresThresholds() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        List<Long> before = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.isUsageThresholdSupported() && pool.getUsage().getMax() > 0) {
+                pools.add(pool);
+                before.add(pool.getUsageThreshold());
+            }
+        }
+        assumeTrue(!pools.isEmpty(), "No heap pool supports usage thresholds");
+        HeadroomChecks.install(0.9);
+        HeadroomChecks.install(0.8);
+        assertEquals((long) (pools.get(0).getUsage().getMax() * 0.8), pools.get(0).getUsageThreshold());
+        HeadroomChecks.uninstall();
+        for (int i = 0; i < pools.size(); i++) {
+            assertEquals(before.get(i), pools.get(i).getUsageThreshold(), pools.get(i).getName());
+        }
+    }
+
+    @Test
+    void impossibleRequirementFails() {
+        HeadroomChecks.refresh();
+        assertThrows(CheckFailedException.class, () -> HeadroomChecks.checkHeadroom(HeadroomChecks.Pool.OLD_GEN, 1.01));
+        assertThrows(CheckFailedException.class, () -> HeadroomChecks.checkHeadroom(HeadroomChecks.Pool.DIRECT, 1.01));
+    }
+}
@@ -0,0 +1,76 @@
+package name.heavycarbon.checks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing the index and range checks of "BasicChecks"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Index failures follow the CheckPolicy
+ ******************************************************************************/
+
+class TestIndexChecks {
+
+    @Test
+    void checkIndexInt() {
+        assertEquals(0, BasicChecks.checkIndex(0, 1));
+        assertEquals(9, BasicChecks.checkIndex(9, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(-1, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(10, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(0, 0));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(0, -1));
+    }
+
+    @Test
+    void checkIndexLong() {
+        long big = 5L * Integer.MAX_VALUE;
+        assertEquals(big - 1, BasicChecks.checkIndex(big - 1, big));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(big, big));
+        assertEquals("The index value 10737418235 is out of range [0,10737418235[", exe.getMessage());
+    }
+
+    @Test
+    void checkFromToIndex() {
+        assertEquals(0, BasicChecks.checkFromToIndex(0, 0, 0));
+        assertEquals(2, BasicChecks.checkFromToIndex(2, 10, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromToIndex(3, 2, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromToIndex(-1, 2, 10));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromToIndex(2, 11, 10));
+        assertEquals("The range [2,11[ is out of range [0,10[", exe.getMessage());
+        assertEquals(1L << 40, BasicChecks.checkFromToIndex(1L << 40, 1L << 41, 1L << 41));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromToIndex(1L << 40, (1L << 41) + 1, 1L << 41));
+    }
+
+    @Test
+    void checkFromIndexSize() {
+        assertEquals(5, BasicChecks.checkFromIndexSize(5, 5, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromIndexSize(5, 6, 10));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromIndexSize(5, -1, 10));
+        // overflow of fromIndex + size must be detected
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromIndexSize(1, Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromIndexSize(1L, Long.MAX_VALUE, Long.MAX_VALUE));
+        assertEquals(1L, BasicChecks.checkFromIndexSize(1L, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+    }
+
+    @Test
+    void checkElementIndexMessages() {
+        CheckFailedException exe1 = assertThrows(CheckFailedException.class, () -> BasicChecks.checkElementIndex(3, new long[]{1, 2, 3}));
+        assertEquals("The index value 3 is out of range for an array with element range [0,3[", exe1.getMessage());
+        CheckFailedException exe2 = assertThrows(CheckFailedException.class, () -> BasicChecks.checkElementIndex(-1, java.util.List.of(1)));
+        assertEquals("The index value -1 is out of range for a list with element range [0,1[", exe2.getMessage());
+    }
+
+    @Test
+    void failuresFollowTheCheckPolicy() {
+        CheckPolicy.runWith(new CheckPolicy(true, false, true, 1), () -> {
+            CheckFailedException exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkIndex(5, 3));
+            assertEquals(0, exe.getStackTrace().length);
+            exe = assertThrows(CheckFailedException.class, () -> BasicChecks.checkFromIndexSize(2L, 2L, 3L));
+            assertEquals(0, exe.getStackTrace().length);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package name.heavycarbon.checks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Not a real test case, just something to quickly/naively measure the cost of
+ * checkImplies() with an expensive consequent, eager vs. lazy, on calls where
+ * the antecedent is mostly false, and what the lazy variant and checkAllOf()
+ * allocate per call once warmed up (on JVMs that can tell).
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestLazyConditionPerformance {
+
+    private static final Map<String, String> table = new HashMap<>();
+    private static final String[] keys = new String[1024];
+
+    static {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "k" + i;
+            table.put(keys[i], "v" + i);
+        }
+    }
+
+    private static int counter;
+
+    private static boolean premium() {
+        return (++counter & 63) == 0;
+    }
+
+    private static boolean expensiveLookup() {
+        int hits = 0;
+        for (int i = 0; i < 64; i++) {
+            if (table.containsKey(keys[(counter + i) & 1023])) {
+                hits++;
+            }
+        }
+        return hits == 64;
+    }
+
+    @Test
+    void eagerVersusLazy() {
+        int n = 1_000_000;
+        int rounds = 5;
+        long[] totals = new long[2];
+        long[] allocated = new long[2];
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                BasicChecks.checkImplies(premium(), expensiveLookup(), "lookup failed");
+            }
+            totals[0] += System.nanoTime() - start;
+            long mark = AllocationChecks.mark();
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                BasicChecks.checkImplies(premium(), TestLazyConditionPerformance::expensiveLookup, "lookup failed");
+            }
+            totals[1] += System.nanoTime() - start;
+            allocated[0] = AllocationChecks.allocatedSince(mark);
+            mark = AllocationChecks.mark();
+            for (int i = 0; i < n; i++) {
+                BasicChecks.checkAllOf("all", () -> counter >= 0, () -> counter != -1, () -> true);
+            }
+            allocated[1] = AllocationChecks.allocatedSince(mark);
+        }
+        System.out.println("Average time for eager checkImplies(): " + ((double) totals[0] / ((long) rounds * n)) + " ns");
+        System.out.println("Average time for lazy checkImplies(): " + ((double) totals[1] / ((long) rounds * n)) + " ns");
+        if (allocated[0] != AllocationChecks.NOT_SUPPORTED) {
+            System.out.println("Bytes allocated per lazy checkImplies() in the last round: " + ((double) allocated[0] / n));
+            System.out.println("Bytes allocated per checkAllOf() in the last round: " + ((double) allocated[1] / n));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package name.heavycarbon.checks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing the BooleanSupplier-based checkImplies() and the composite checks
+ * checkAllOf(), checkAnyOf(), checkNoneOf()
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestLazyConditions {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private boolean counted(boolean value) {
+        evaluations.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    void consequentIsLazy() {
+        BasicChecks.checkImplies(false, () -> counted(false));
+        BasicChecks.checkImplies(false, () -> counted(false), "never");
+        assertEquals(0, evaluations.get());
+        BasicChecks.checkImplies(true, () -> counted(true), "holds");
+        assertEquals(1, evaluations.get());
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> BasicChecks.checkImplies(true, () -> false, "value {} implies {}", 1, 2));
+        assertEquals("value 1 implies 2", exe.getMessage());
+        assertTrue(BasicChecks.imply(false, () -> counted(false)));
+        assertFalse(BasicChecks.imply(true, () -> false));
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void allOf() {
+        BasicChecks.checkAllOf("ok", () -> true, () -> true);
+        BasicChecks.checkAllOf("ok", () -> true, () -> true, () -> true, () -> true);
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> BasicChecks.checkAllOf("order", () -> counted(true), () -> counted(false), () -> counted(true)));
+        assertEquals("order: condition [1] of allOf(3) is false", exe.getMessage());
+        assertEquals(2, evaluations.get());
+        exe = assertThrows(CheckFailedException.class,
+                () -> BasicChecks.checkAllOf(null, () -> true, () -> true, () -> true, () -> false));
+        assertEquals("Test for 'allOf' fails: condition [3] of 4 is false", exe.getMessage());
+    }
+
+    @Test
+    void anyOf() {
+        BasicChecks.checkAnyOf("ok", () -> counted(true), () -> counted(false));
+        assertEquals(1, evaluations.get());
+        BasicChecks.checkAnyOf("ok", () -> false, () -> false, () -> false, () -> true);
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> BasicChecks.checkAnyOf("source", () -> false, () -> false));
+        assertEquals("source: none of the conditions of anyOf(2) is true", exe.getMessage());
+        assertThrows(CheckFailedException.class, () -> BasicChecks.checkAnyOf("empty"));
+    }
+
+    @Test
+    void noneOf() {
+        BasicChecks.checkNoneOf("ok", () -> false, () -> false, () -> false);
+        BasicChecks.checkNoneOf("ok");
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> BasicChecks.checkNoneOf("flags", () -> counted(false), () -> counted(true), () -> counted(true)));
+        assertEquals("flags: condition [1] of noneOf(3) is true", exe.getMessage());
+        assertEquals(2, evaluations.get());
+    }
+}
@@ -0,0 +1,124 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "MembershipIndex"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestMembershipIndex {
+
+    /**
+     * The index must fail where checkMemberInContainer() fails, with the same
+     * message.
+     */
+
+    private static void assertSameAsScan(Object container, MembershipIndex index, Object member) {
+        String scanMessage = null;
+        try {
+            BasicChecks.checkMemberInContainer(member, container);
+        } catch (CheckFailedException exe) {
+            scanMessage = exe.getMessage();
+        }
+        String indexMessage = null;
+        try {
+            index.check(member);
+        } catch (CheckFailedException exe) {
+            indexMessage = exe.getMessage();
+        }
+        assertEquals(scanMessage, indexMessage, "member " + member);
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void numericArrays() {
+        int[] codes = IntStream.range(0, 100_000).map(i -> i * 7 - 350_000).toArray();
+        MembershipIndex index = MembershipIndex.of(codes);
+        assertEquals("MembershipIndex[sorted Integer values, 100000 elements]", index.toString());
+        for (Object member : new Object[] { -350_000, 0, 7, 8, 349_993, 349_994, 7L, null, "7" }) {
+            assertSameAsScan(codes, index, member);
+        }
+        assertTrue(index.contains(-7));
+        assertFalse(index.contains(-7L));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> index.check(1));
+        assertEquals("The array of type [I does not contain the key of type java.lang.Integer", exe.getMessage());
+        double[] doubles = { 0.0, Double.NaN, 1.5 };
+        MembershipIndex doubleIndex = MembershipIndex.of(doubles);
+        for (Object member : new Object[] { 0.0, -0.0, Double.NaN, 1.5, 1.5f }) {
+            assertSameAsScan(doubles, doubleIndex, member);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void largeNumericSets() {
+        long[] ids = LongStream.range(0, LongHashSet.OFF_HEAP_BYTES / Long.BYTES / 2).map(i -> i * 1_000_003).toArray();
+        MembershipIndex index = MembershipIndex.of(ids);
+        assertEquals("MembershipIndex[off-heap table of Long values, " + ids.length + " elements]", index.toString());
+        assertTrue(index.contains(1_000_003L * 17));
+        assertFalse(index.contains(1_000_003L * 17 + 1));
+        Set<Long> set = LongStream.range(0, MembershipIndex.LARGE).boxed().collect(Collectors.toSet());
+        MembershipIndex setIndex = MembershipIndex.of(set);
+        assertEquals("MembershipIndex[on-heap table of Long values, " + MembershipIndex.LARGE + " elements]", setIndex.toString());
+        for (Object member : new Object[] { 0L, -1L, (long) MembershipIndex.LARGE - 1, (long) MembershipIndex.LARGE, 5 }) {
+            assertSameAsScan(set, setIndex, member);
+        }
+    }
+
+    @Test
+    void strings() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            codes.add("C" + Integer.toString(i, 36).toUpperCase());
+        }
+        codes.add("Aa"); // same String.hashCode() as "BB"
+        codes.add("BB");
+        MembershipIndex index = MembershipIndex.of(codes);
+        assertEquals("MembershipIndex[perfect hash of Strings, 100002 elements]", index.toString());
+        for (String code : codes) {
+            assertTrue(index.contains(code), code);
+        }
+        for (Object member : new Object[] { "C0", "CZZ", "c0", "", "Ab", null, 'C' }) {
+            assertSameAsScan(codes, index, member);
+        }
+        MembershipIndex small = MembershipIndex.of(new String[] { "only" });
+        assertTrue(small.contains("only"));
+        assertFalse(small.contains("other"));
+        assertFalse(MembershipIndex.of(new String[0]).contains("x"));
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void mixedAndMaps() {
+        List<Object> mixed = Arrays.asList(1, 2L, "three", null);
+        MembershipIndex index = MembershipIndex.of(mixed);
+        assertEquals("MembershipIndex[hash set, 4 elements]", index.toString());
+        for (Object member : new Object[] { 1, 1L, 2L, "three", null, 4 }) {
+            assertSameAsScan(mixed, index, member);
+        }
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        MembershipIndex mapIndex = MembershipIndex.of(map);
+        assertSameAsScan(map, mapIndex, "a");
+        assertSameAsScan(map, mapIndex, "b");
+        assertThrows(CheckFailedException.class, () -> MembershipIndex.of(new Object()));
+    }
+}
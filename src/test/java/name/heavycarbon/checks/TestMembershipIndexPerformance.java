@@ -0,0 +1,78 @@
+package name.heavycarbon.checks;
+
+import org.junit.jupiter.api.Test;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Naive timing of checks of incoming codes against the same 100k-entry
+ * reference arrays: checkMemberInContainer() scans the array every time,
+ * MembershipIndex is built once.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestMembershipIndexPerformance {
+
+    private static final int SIZE = 100_000;
+
+    @SuppressWarnings("boxing")
+    @Test
+    void timeIntCodes() {
+        int[] codes = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            codes[i] = i * 3;
+        }
+        Integer[] members = new Integer[1024];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = ((i * 7919) % SIZE) * 3;
+        }
+        int scanRounds = 200;
+        long start = System.nanoTime();
+        for (int r = 0; r < scanRounds; r++) {
+            BasicChecks.checkMemberInContainer(members[r % members.length], codes);
+        }
+        long scanNanos = (System.nanoTime() - start) / scanRounds;
+        MembershipIndex index = MembershipIndex.of(codes);
+        int indexRounds = 10_000_000;
+        for (int r = 0; r < indexRounds; r++) { // warm up
+            index.check(members[r & 1023]);
+        }
+        start = System.nanoTime();
+        for (int r = 0; r < indexRounds; r++) {
+            index.check(members[r & 1023]);
+        }
+        double indexNanos = (double) (System.nanoTime() - start) / indexRounds;
+        System.out.println("Average time for a check against " + SIZE + " int codes: checkMemberInContainer() " + scanNanos + " ns, "
+                + index + " " + String.format("%.1f", indexNanos) + " ns");
+    }
+
+    @Test
+    void timeStringCodes() {
+        String[] codes = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            codes[i] = "CODE-" + i;
+        }
+        String[] members = new String[1024];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new String(codes[(i * 7919) % SIZE]); // not the same instances
+        }
+        int scanRounds = 200;
+        long start = System.nanoTime();
+        for (int r = 0; r < scanRounds; r++) {
+            BasicChecks.checkMemberInContainer(members[r % members.length], codes);
+        }
+        long scanNanos = (System.nanoTime() - start) / scanRounds;
+        MembershipIndex index = MembershipIndex.of(codes);
+        int indexRounds = 10_000_000;
+        for (int r = 0; r < indexRounds; r++) { // warm up
+            index.check(members[r & 1023]);
+        }
+        start = System.nanoTime();
+        for (int r = 0; r < indexRounds; r++) {
+            index.check(members[r & 1023]);
+        }
+        double indexNanos = (double) (System.nanoTime() - start) / indexRounds;
+        System.out.println("Average time for a check against " + SIZE + " String codes: checkMemberInContainer() " + scanNanos + " ns, "
+                + index + " " + String.format("%.1f", indexNanos) + " ns");
+    }
+}
@@ -0,0 +1,137 @@
+package name.heavycarbon.checks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "ParseChecks"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestParseChecks {
+
+    /**
+     * Embed "str" in a line with other fields on either side.
+     */
+
+    private static String embed(String str) {
+        return "id=7;" + str + ";tail";
+    }
+
+    private static ByteBuffer embedBytes(String str) {
+        return ByteBuffer.wrap(embed(str).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void ints() {
+        for (String str : new String[] { "0", "-0", "+17", "42", "-2147483648", "2147483647", "000123" }) {
+            int expected = Integer.parseInt(str);
+            assertEquals(expected, ParseChecks.checkParsableInt(embed(str), 5, str.length(), Integer.MIN_VALUE, Integer.MAX_VALUE));
+            assertEquals(expected, ParseChecks.checkParsableInt(embedBytes(str), 5, str.length(), Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+        for (String str : new String[] { "", "-", "+", "1x", "--1", " 1", "1 ", "١" }) {
+            assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableInt(embed(str), 5, str.length(), 0, 100), str);
+        }
+    }
+
+    @Test
+    void longs() {
+        for (String str : new String[] { "0", "-9223372036854775808", "9223372036854775807", "+1234567890123" }) {
+            long expected = Long.parseLong(str);
+            assertEquals(expected, ParseChecks.checkParsableLong(embed(str), 5, str.length(), Long.MIN_VALUE, Long.MAX_VALUE));
+            assertEquals(expected, ParseChecks.checkParsableLong(embedBytes(str), 5, str.length(), Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        for (String str : new String[] { "9223372036854775808", "-9223372036854775809", "99999999999999999999999" }) {
+            CheckFailedException exe = assertThrows(CheckFailedException.class,
+                    () -> ParseChecks.checkParsableLong(embed(str), 5, str.length(), Long.MIN_VALUE, Long.MAX_VALUE));
+            assertTrue(exe.getMessage().contains("is not in the range"), exe.getMessage());
+        }
+    }
+
+    @Test
+    void messagesNameTheSlice() {
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> ParseChecks.checkParsableInt(embed("65x35"), 5, 5, 1, 65535, "port"));
+        assertEquals("The text 'port' at [5,10[ is not a parsable int: \"65x35\"", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableInt(embed("70000"), 5, 5, 1, 65535, "port"));
+        assertEquals("The text 'port' at [5,10[ is not in the range [1,65535]: \"70000\"", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableInt(embed("12345678901"), 5, 11, 1, 65535));
+        assertEquals("The unnamed text at [5,16[ is not in the range [1,65535]: \"12345678901\"", exe.getMessage());
+        exe = assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableDouble(embedBytes("1.5e"), 5, 4, 0, 10, "price"));
+        assertEquals("The bytes 'price' at [5,9[ is not a parsable double: \"1.5e\"", exe.getMessage());
+        String longText = "1".repeat(100) + "x";
+        exe = assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableLong(longText, 0, longText.length(), 0, 1));
+        assertEquals("The unnamed text at [0,101[ is not a parsable long: \"" + "1".repeat(ParseChecks.MAX_SHOWN) + "...\"",
+                exe.getMessage());
+        assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableInt("123", 1, 3, 0, 100));
+        assertThrows(CheckFailedException.class, () -> ParseChecks.checkParsableInt((CharSequence) null, 0, 0, 0, 100));
+    }
+
+    @Test
+    void doubles() {
+        for (String str : new String[] { "0", "-0", "-0.0", "1.", ".5", "3.141592653589793", "1e22", "1e23", "-2.5E-3", "+7e+2",
+                "123456789012345678901234567890", "0.000000000000000000000001", "4.9e-324", "1.7976931348623157e308", "0e999",
+                "9007199254740993", "0.1", "100.25", "12345.678901234567" }) {
+            double expected = Double.parseDouble(str);
+            double max = Double.MAX_VALUE;
+            assertEquals(Double.doubleToRawLongBits(expected),
+                    Double.doubleToRawLongBits(ParseChecks.checkParsableDouble(embed(str), 5, str.length(), -max, max)), str);
+            assertEquals(Double.doubleToRawLongBits(expected),
+                    Double.doubleToRawLongBits(ParseChecks.checkParsableDouble(embedBytes(str), 5, str.length(), -max, max)), str);
+        }
+        for (String str : new String[] { "", ".", "-", "e5", "1e", "1e+", "1.2.3", "NaN", "Infinity", "0x1p3", "1d", " 1" }) {
+            assertThrows(CheckFailedException.class,
+                    () -> ParseChecks.checkParsableDouble(embed(str), 5, str.length(), -Double.MAX_VALUE, Double.MAX_VALUE), str);
+        }
+        CheckFailedException exe = assertThrows(CheckFailedException.class,
+                () -> ParseChecks.checkParsableDouble(embed("1e400"), 5, 5, -Double.MAX_VALUE, Double.MAX_VALUE, "x"));
+        assertTrue(exe.getMessage().contains("is not in the range"), exe.getMessage());
+    }
+
+    @Test
+    void randomDoublesMatchParseDouble() {
+        Random rand = new Random(4711);
+        for (int i = 0; i < 100_000; i++) {
+            String str;
+            switch (i % 3) {
+                case 0 -> str = Double.toString(Double.longBitsToDouble(rand.nextLong()));
+                case 1 -> str = String.format(Locale.ROOT, "%.6f", rand.nextDouble() * 1e6);
+                default -> str = (rand.nextInt(2_000_000) - 1_000_000) + "." + rand.nextInt(1000) + "e" + (rand.nextInt(40) - 20);
+            }
+            if (str.contains("NaN") || str.contains("Infinity")) {
+                continue;
+            }
+            double expected = Double.parseDouble(str);
+            double actual = ParseChecks.checkParsableDouble(str, 0, str.length(), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual), str);
+        }
+    }
+
+    @Test
+    void passingChecksDoNotAllocate() {
+        String line = embed("12345");
+        ByteBuffer bytes = embedBytes("-1.25e2");
+        long sum = 0;
+        for (int i = 0; i < 100_000; i++) { // warm up, so that the JIT has removed what can be removed
+            sum += ParseChecks.checkParsableInt(line, 5, 5, 0, 99999);
+            sum += (long) ParseChecks.checkParsableDouble(bytes, 5, 7, -1000, 1000);
+        }
+        long mark = AllocationChecks.mark();
+        for (int i = 0; i < 10_000; i++) {
+            sum += ParseChecks.checkParsableInt(line, 5, 5, 0, 99999);
+            sum += (long) ParseChecks.checkParsableDouble(bytes, 5, 7, -1000, 1000);
+        }
+        AllocationChecks.checkAllocatedAtMost(mark, 0, "parse loop");
+        assertEquals(100_000L * (12345 - 125) + 10_000L * (12345 - 125), sum);
+    }
+}
@@ -0,0 +1,98 @@
+package name.heavycarbon.checks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "PostmortemWriter" and the "CannotHappenHandler" hook
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - History only with a handler; close() keeps the interrupt
+ ******************************************************************************/
+
+class TestPostmortemWriter {
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.toList();
+        }
+    }
+
+    private static void fireFromOneCallSite() {
+        BasicChecks.cannotHappen("Broken state: {}", "some detail");
+    }
+
+    @Test
+    void snapshotIsWrittenAndDeduplicated(@TempDir Path dir) throws Exception {
+        PostmortemWriter writer = new PostmortemWriter(dir, 60_000);
+        CannotHappenHandler old = BasicChecks.getCannotHappenHandler();
+        BasicChecks.setCannotHappenHandler(writer);
+        try {
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkFailed("an earlier failure"));
+            for (int i = 0; i < 10; i++) {
+                assertThrows(Error.class, TestPostmortemWriter::fireFromOneCallSite);
+            }
+        } finally {
+            BasicChecks.setCannotHappenHandler(old);
+            writer.close();
+        }
+        assertEquals(1, writer.getWrittenCount());
+        assertEquals(9, writer.getSuppressedCount());
+        List<Path> files = listFiles(dir);
+        assertEquals(1, files.size());
+        String content = Files.readString(files.get(0));
+        assertTrue(content.contains("Message: Broken state: some detail"), content);
+        assertTrue(content.contains("Argument 0: 'some detail'"), content);
+        assertTrue(content.contains("an earlier failure"), content);
+        assertTrue(content.contains("fireFromOneCallSite"), content);
+        assertTrue(content.contains("Threads ("), content);
+    }
+
+    @Test
+    void historyIsOnlyRecordedWithAHandler() {
+        CannotHappenHandler old = BasicChecks.getCannotHappenHandler();
+        BasicChecks.setCannotHappenHandler(null);
+        try {
+            long count = FailureHistory.getTotalCount();
+            assertThrows(CheckFailedException.class, () -> BasicChecks.checkFailed("not recorded"));
+            assertEquals(count, FailureHistory.getTotalCount());
+        } finally {
+            BasicChecks.setCannotHappenHandler(old);
+        }
+    }
+
+    @Test
+    void closeKeepsTheInterrupt(@TempDir Path dir) {
+        PostmortemWriter writer = new PostmortemWriter(dir, 0);
+        Thread.currentThread().interrupt();
+        try (writer) {
+            assertTrue(Thread.currentThread().isInterrupted());
+        }
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void throwingHandlerDoesNotHideTheError() {
+        CannotHappenHandler old = BasicChecks.getCannotHappenHandler();
+        BasicChecks.setCannotHappenHandler((msg, cause, args) -> {
+            throw new IllegalStateException("handler broke");
+        });
+        try {
+            Error err = assertThrows(Error.class, () -> BasicChecks.cannotHappen("oops"));
+            assertEquals("Can't happen! Time for a code fix! oops", err.getMessage());
+        } finally {
+            BasicChecks.setCannotHappenHandler(old);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package name.heavycarbon.checks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "SampledCheck"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestSampledCheck {
+
+    @Test
+    void oneInEveryCall() {
+        SampledCheck check = SampledCheck.oneIn("every call", 1);
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(check.run(ran::incrementAndGet));
+        }
+        assertEquals(100, ran.get());
+        assertEquals(100, check.getCallCount());
+        assertEquals(100, check.getRunCount());
+    }
+
+    @Test
+    void oneInN() {
+        SampledCheck check = SampledCheck.oneIn("one in 100", 100);
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 100_000; i++) {
+            check.run(ran::incrementAndGet);
+        }
+        assertEquals(100_000, check.getCallCount());
+        assertEquals(ran.get(), check.getRunCount());
+        assertTrue(ran.get() > 700 && ran.get() < 1300, "ran " + ran.get());
+    }
+
+    @Test
+    void failuresAreCountedAndRethrown() {
+        SampledCheck check = SampledCheck.oneIn("failing", 1);
+        assertThrows(CheckFailedException.class, () -> check.run(() -> BasicChecks.checkTrue(false, "broken")));
+        assertEquals(1, check.getFailureCount());
+    }
+
+    @Test
+    void cpuFractionLimitsTimeSpent() {
+        SampledCheck check = SampledCheck.cpuFraction("busy", 0.1);
+        Runnable busy = () -> {
+            long end = System.nanoTime() + 1_000_000;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        };
+        long start = System.nanoTime();
+        long runs = 0;
+        while (System.nanoTime() - start < 200_000_000L) {
+            if (check.run(busy)) {
+                runs++;
+            }
+        }
+        // 200 ms at 10% with 1 ms per run: about 20 runs, certainly not 200
+        assertTrue(runs >= 5 && runs <= 40, "runs " + runs);
+        assertEquals(runs, check.getRunCount());
+        assertTrue(check.getCallCount() > runs);
+    }
+
+    @Test
+    void badArguments() {
+        assertThrows(CheckFailedException.class, () -> SampledCheck.oneIn("x", 0));
+        assertThrows(CheckFailedException.class, () -> SampledCheck.cpuFraction("x", 0));
+        assertThrows(CheckFailedException.class, () -> SampledCheck.cpuFraction("x", 1.5));
+    }
+
+    @Test
+    void exported() throws Exception {
+        SampledCheck check = SampledCheck.oneIn("exported \"check\"", 1);
+        check.run(() -> { });
+        assertTrue(SampledCheck.getAll().contains(check));
+        try (PrometheusExporter exporter = PrometheusExporter.start(0)) {
+            String text = exporter.renderToString();
+            assertTrue(text.contains("checks_sampled_runs_total{check=\"exported \\\"check\\\"\"} 1\n"), text);
+        }
+        assertFalse(check.toString().isEmpty());
+    }
+}
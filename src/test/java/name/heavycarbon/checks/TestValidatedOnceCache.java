@@ -0,0 +1,136 @@
+package name.heavycarbon.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "ValidatedOnceCache"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestValidatedOnceCache {
+
+    private static final AtomicInteger validations = new AtomicInteger();
+
+    public static class Config implements ValidateOnce {
+
+        private final boolean ok;
+
+        Config(boolean ok) {
+            this.ok = ok;
+        }
+
+        public boolean validate() {
+            validations.incrementAndGet();
+            return ok;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            throw new IllegalStateException("equals() must not be called");
+        }
+
+        @Override
+        public int hashCode() {
+            throw new IllegalStateException("hashCode() must not be called");
+        }
+    }
+
+    public static class Mutable {
+
+        public boolean validate() {
+            validations.incrementAndGet();
+            return true;
+        }
+    }
+
+    @BeforeEach
+    void enable() {
+        ValidatedOnceCache.setEnabled(true);
+        validations.set(0);
+    }
+
+    @AfterEach
+    void disable() {
+        ValidatedOnceCache.setEnabled(false);
+        ValidatedOnceCache.setMaxSize(ValidatedOnceCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    void markedObjectsAreValidatedOnce() {
+        Config config = new Config(true);
+        long hits = ValidatedOnceCache.getHitCount();
+        for (int i = 0; i < 10; i++) {
+            BasicChecks.validateIt(config);
+        }
+        assertEquals(1, validations.get());
+        assertEquals(hits + 9, ValidatedOnceCache.getHitCount());
+        BasicChecks.validateIt(new Config(true));
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void failedObjectsAreNotRemembered() {
+        Config bad = new Config(false);
+        assertThrows(CheckFailedException.class, () -> BasicChecks.validateIt(bad));
+        assertThrows(CheckFailedException.class, () -> BasicChecks.validateIt(bad));
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void unmarkedObjectsAreAlwaysValidated() {
+        Mutable mutable = new Mutable();
+        BasicChecks.validateIt(mutable);
+        BasicChecks.validateIt(mutable);
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void disabledCacheDoesNothing() {
+        ValidatedOnceCache.setEnabled(false);
+        Config config = new Config(true);
+        BasicChecks.validateIt(config);
+        BasicChecks.validateIt(config);
+        assertEquals(2, validations.get());
+        assertEquals(0, ValidatedOnceCache.size());
+    }
+
+    @Test
+    void sizeIsBounded() {
+        ValidatedOnceCache.setMaxSize(4);
+        long rejected = ValidatedOnceCache.getRejectedCount();
+        List<Config> keep = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keep.add(new Config(true));
+            BasicChecks.validateIt(keep.get(i));
+        }
+        assertEquals(4, ValidatedOnceCache.size());
+        assertEquals(rejected + 6, ValidatedOnceCache.getRejectedCount());
+    }
+
+    @Test
+    void collectedObjectsAreEvicted() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            BasicChecks.validateIt(new Config(true));
+        }
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ValidatedOnceCache.getEvictedCount() == 0 && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+            BasicChecks.validateIt(new Config(true)); // adding drops collected entries
+        }
+        assertTrue(ValidatedOnceCache.getEvictedCount() > 0);
+        assertTrue(ValidatedOnceCache.size() < 1000);
+    }
+}
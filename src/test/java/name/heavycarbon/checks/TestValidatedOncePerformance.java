@@ -0,0 +1,81 @@
+package name.heavycarbon.checks;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Not a real test case, just something to quickly/naively measure what the
+ * "ValidatedOnceCache" saves on a request flow where the same immutable
+ * reference data is validated at every layer boundary (here: 4 layers, 3
+ * objects each, out of a pool of 64 reference objects), with the cache off
+ * and on.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestValidatedOncePerformance {
+
+    public record Currency(String code, int digits) implements ValidateOnce {
+
+        public boolean validate() {
+            return code.length() == 3 && code.chars().allMatch(Character::isUpperCase) && digits >= 0 && digits <= 4;
+        }
+    }
+
+    public record Tariff(String name, List<Currency> currencies, Map<String, Integer> limits) implements ValidateOnce {
+
+        public boolean validate() {
+            for (Currency currency : currencies) {
+                BasicChecks.validateIt(currency);
+            }
+            return !name.isEmpty() && limits.values().stream().allMatch(v -> v > 0);
+        }
+    }
+
+    private static Tariff[] referenceData() {
+        Tariff[] res = new Tariff[64];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = new Tariff("tariff-" + i,
+                    List.of(new Currency("EUR", 2), new Currency("CHF", 2), new Currency("JPY", 0)),
+                    Map.of("daily", 1000 + i, "monthly", 20_000 + i));
+        }
+        return res;
+    }
+
+    private static void request(Tariff[] data, int requestNo) {
+        for (int layer = 0; layer < 4; layer++) {
+            for (int k = 0; k < 3; k++) {
+                BasicChecks.validateIt(data[(requestNo * 7 + k) & 63]);
+            }
+        }
+    }
+
+    @Test
+    void requestFlow() {
+        Tariff[] data = referenceData();
+        int n = 50_000;
+        int rounds = 5;
+        long[] totals = new long[2];
+        try {
+            for (int round = 0; round < rounds; round++) {
+                for (int c = 0; c < 2; c++) {
+                    ValidatedOnceCache.setEnabled(c == 1);
+                    long start = System.nanoTime();
+                    for (int i = 0; i < n; i++) {
+                        request(data, i);
+                    }
+                    totals[c] += System.nanoTime() - start;
+                }
+            }
+        } finally {
+            ValidatedOnceCache.setEnabled(false);
+        }
+        String[] what = {"cache off", "cache on"};
+        for (int c = 0; c < what.length; c++) {
+            System.out.println("Average time per request with " + what[c] + ": " + ((double) totals[c] / ((long) rounds * n)) + " ns");
+        }
+    }
+}
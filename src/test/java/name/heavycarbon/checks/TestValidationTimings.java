@@ -0,0 +1,97 @@
+package name.heavycarbon.checks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "LatencyHistogram" and "ValidationTimings"
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestValidationTimings {
+
+    public static class Slow {
+
+        public boolean validate() {
+            long end = System.nanoTime() + 200_000;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return true;
+        }
+    }
+
+    public static class NeverTimed {
+
+        public boolean validate() {
+            return true;
+        }
+    }
+
+    @AfterEach
+    void switchOff() {
+        ValidationTimings.setSampleEvery(0);
+    }
+
+    @Test
+    void bucketsAreContiguousAndPrecise() {
+        int prev = -1;
+        for (long v = 0; v < 100_000; v++) {
+            int index = LatencyHistogram.indexOf(v);
+            assertTrue(index == prev || index == prev + 1, "at " + v);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= v);
+            prev = index;
+        }
+        assertTrue(LatencyHistogram.indexOf(Long.MAX_VALUE) < LatencyHistogram.BUCKET_COUNT);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+        long big = 123_456_789_000L;
+        long high = LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(big));
+        assertTrue(high >= big && (high - big) < big / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+
+    @Test
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencyHistogram.Snapshot s = histogram.snapshot();
+        assertEquals(1000, s.count());
+        assertEquals(1_000_000, s.max());
+        assertWithin(500_000, s.p50());
+        assertWithin(990_000, s.p99());
+        assertWithin(999_000, s.p999());
+        histogram.reset();
+        assertEquals(new LatencyHistogram.Snapshot(0, 0, 0, 0, 0), histogram.snapshot());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected / LatencyHistogram.SUB_BUCKET_COUNT, expected + " vs " + actual);
+    }
+
+    @Test
+    void validateItRecordsPerClass() {
+        ValidationTimings.setSampleEvery(1);
+        for (int i = 0; i < 20; i++) {
+            BasicChecks.validateIt(new Slow());
+        }
+        LatencyHistogram.Snapshot s = ValidationTimings.getSnapshot(Slow.class);
+        assertTrue(s.count() >= 20);
+        assertTrue(s.p50() >= 200_000, s.toString());
+        assertTrue(ValidationTimings.getSnapshots().containsKey(Slow.class));
+    }
+
+    @Test
+    void nothingIsRecordedWhenOff() {
+        BasicChecks.validateIt(new NeverTimed());
+        assertNull(ValidationTimings.getSnapshot(NeverTimed.class));
+        assertThrows(CheckFailedException.class, () -> ValidationTimings.setSampleEvery(-1));
+    }
+}
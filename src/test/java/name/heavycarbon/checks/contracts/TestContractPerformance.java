@@ -0,0 +1,96 @@
+package name.heavycarbon.checks.contracts;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.Test;
+
+import name.heavycarbon.checks.BasicChecks;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Not a real test case, just something to quickly/naively measure the per-call
+ * cost of a contract wrapper from "Contracts", against a direct call, a
+ * hand-written wrapper doing the same checks and a java.lang.reflect.Proxy
+ * doing the same checks.
+ *
+ * 2026.10.19 - Created
+ ******************************************************************************/
+
+class TestContractPerformance {
+
+    public interface Adder {
+
+        @Between(lowest = 0, highest = Integer.MAX_VALUE)
+        int add(@NotNull String tag, @Between(lowest = 0, highest = 1000) int a, int b);
+    }
+
+    static final class AdderImpl implements Adder {
+
+        @Override
+        public int add(String tag, int a, int b) {
+            return a + b;
+        }
+    }
+
+    static final class HandWritten implements Adder {
+
+        private final Adder target;
+
+        HandWritten(Adder target) {
+            this.target = target;
+        }
+
+        @Override
+        public int add(String tag, int a, int b) {
+            BasicChecks.checkNotNull(tag, "tag");
+            BasicChecks.checkBetween(0, 1000, a, "a");
+            return BasicChecks.checkBetween(0, Integer.MAX_VALUE, target.add(tag, a, b), "result");
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static Adder reflectionProxy(Adder target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            BasicChecks.checkNotNull(args[0], "tag");
+            BasicChecks.checkBetween(0, 1000, (Integer) args[1], "a");
+            try {
+                Object res = method.invoke(target, args);
+                BasicChecks.checkBetween(0, Integer.MAX_VALUE, (Integer) res, "result");
+                return res;
+            } catch (InvocationTargetException exe) {
+                throw exe.getCause();
+            }
+        };
+        return (Adder) Proxy.newProxyInstance(Adder.class.getClassLoader(), new Class<?>[] { Adder.class }, handler);
+    }
+
+    private static long sink;
+
+    private static long loop(Adder adder, int n) {
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            sink += adder.add("t", i & 511, 1);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    void perCallOverhead() {
+        Adder impl = new AdderImpl();
+        Adder[] adders = { impl, new HandWritten(impl), Contracts.wrap(Adder.class, impl), reflectionProxy(impl) };
+        String[] what = { "direct call", "hand-written wrapper", "contract wrapper", "java.lang.reflect.Proxy" };
+        int n = 2_000_000;
+        int rounds = 5;
+        long[] totals = new long[adders.length];
+        for (int round = 0; round < rounds; round++) {
+            for (int c = 0; c < adders.length; c++) {
+                totals[c] += loop(adders[c], n);
+            }
+        }
+        for (int c = 0; c < what.length; c++) {
+            System.out.println("Average time for " + what[c] + ": " + ((double) totals[c] / ((long) rounds * n)) + " ns");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package name.heavycarbon.checks.contracts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import name.heavycarbon.checks.CheckFailedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 34567890123456789012345678901234567890123456789012345678901234567890123456789
+ * *****************************************************************************
+ * Testing "Contracts"
+ *
+ * 2026.10.19 - Created
+ * 2026.10.19 - Interfaces of a child class loader
+ ******************************************************************************/
+
+class TestContracts {
+
+    public interface Service {
+
+        @NotNull
+        String find(@NotEmpty String id, @Between(lowest = 1, highest = 100) int version);
+
+        @Between(lowest = 0, highest = 10)
+        long count(@NotNull List<String> items, double weight, long extra);
+
+        void store(@Valid Item item);
+
+        default String describe() {
+            return "service";
+        }
+    }
+
+    public interface Broken {
+
+        @NotNull
+        void nothing();
+    }
+
+    public interface Doubler {
+
+        @Between(lowest = 0, highest = 10)
+        int twice(@Between(lowest = 0, highest = 100) int x);
+    }
+
+    public static final class LookupSupplier implements Supplier<MethodHandles.Lookup> {
+
+        @Override
+        public MethodHandles.Lookup get() {
+            return MethodHandles.lookup();
+        }
+    }
+
+    /**
+     * Defines its own copies of "Doubler" and "LookupSupplier", as a plugin's
+     * class loader would.
+     */
+
+    static final class ChildLoader extends ClassLoader {
+
+        ChildLoader() {
+            super(TestContracts.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Doubler.class.getName()) && !name.equals(LookupSupplier.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> res = findLoadedClass(name);
+                if (res == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = in.readAllBytes();
+                        res = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException exe) {
+                        throw new ClassNotFoundException(name, exe);
+                    }
+                }
+                return res;
+            }
+        }
+    }
+
+    public static class Item {
+
+        private final boolean ok;
+
+        public Item(boolean ok) {
+            this.ok = ok;
+        }
+
+        public boolean validate() {
+            return ok;
+        }
+    }
+
+    static class ServiceImpl implements Service {
+
+        int stored;
+
+        @Override
+        public String find(String id, int version) {
+            return id.equals("missing") ? null : id + "@" + version;
+        }
+
+        @Override
+        public long count(List<String> items, double weight, long extra) {
+            return items.size() + (long) weight + extra;
+        }
+
+        @Override
+        public void store(Item item) {
+            stored++;
+        }
+    }
+
+    @Test
+    void passingCallsAreForwarded() {
+        ServiceImpl impl = new ServiceImpl();
+        Service service = Contracts.wrap(Service.class, impl);
+        assertNotSame(impl, service);
+        assertEquals("a@3", service.find("a", 3));
+        assertEquals(6, service.count(List.of("x", "y"), 1.5, 3));
+        service.store(new Item(true));
+        assertEquals(1, impl.stored);
+        assertEquals("service", service.describe());
+        assertTrue(service.getClass().isHidden());
+    }
+
+    @Test
+    void preconditions() {
+        Service service = Contracts.wrap(Service.class, new ServiceImpl());
+        assertThrows(CheckFailedException.class, () -> service.find("", 3));
+        assertThrows(CheckFailedException.class, () -> service.find(null, 3));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> service.find("a", 101));
+        assertTrue(exe.getMessage().contains("not in the range [1,100]: 101"), exe.getMessage());
+        assertThrows(CheckFailedException.class, () -> service.count(null, 0, 0));
+        assertThrows(CheckFailedException.class, () -> service.store(new Item(false)));
+    }
+
+    @Test
+    void postconditions() {
+        Service service = Contracts.wrap(Service.class, new ServiceImpl());
+        assertThrows(CheckFailedException.class, () -> service.find("missing", 1));
+        CheckFailedException exe = assertThrows(CheckFailedException.class, () -> service.count(List.of(), 0, 11));
+        assertTrue(exe.getMessage().contains("count() result"), exe.getMessage());
+    }
+
+    @Test
+    void wrongUse() {
+        assertThrows(CheckFailedException.class, () -> Contracts.wrap(Broken.class, () -> { }));
+        assertThrows(CheckFailedException.class, () -> Contracts.wrap(Service.class, null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void interfaceOfChildLoaderNeedsItsLookup() throws Exception {
+        ClassLoader loader = new ChildLoader();
+        Class<Object> iface = (Class<Object>) loader.loadClass(Doubler.class.getName());
+        assertNotSame(Doubler.class, iface);
+        Method twice = iface.getMethod("twice", int.class);
+        Object impl = Proxy.newProxyInstance(loader, new Class<?>[] { iface }, (proxy, method, args) -> 2 * (Integer) args[0]);
+        // defined next to "Contracts", the wrapper would implement the parent's "Doubler"
+        assertThrows(CheckFailedException.class, () -> Contracts.wrap(iface, impl));
+        MethodHandles.Lookup lookup = ((Supplier<MethodHandles.Lookup>) loader.loadClass(LookupSupplier.class.getName())
+                .getConstructor().newInstance()).get();
+        Object wrapped = Contracts.wrap(lookup, iface, impl);
+        assertSame(loader, wrapped.getClass().getClassLoader());
+        assertEquals(8, twice.invoke(wrapped, 4));
+        assertThrows(CheckFailedException.class, () -> Contracts.wrap(MethodHandles.publicLookup(), iface, impl));
+    }
+}